@@ -0,0 +1,72 @@
+package accommodation.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.domain.availability.AvailabilityIndex;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.model.RoomType;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+/**
+ * "Free rooms of a type across a week range" on an academic year with roughly a third of
+ * all room-weeks booked in random 4-12 week tenancies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityBenchmark {
+    private static final int WEEKS = 52;
+
+    @Param({"10000", "50000"})
+    public int roomCount;
+
+    @Param({"4", "52"})
+    public int rangeWeeks;
+
+    private AvailabilityIndex index;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository(roomCount);
+        StandardAccommodationFactory standard = new StandardAccommodationFactory();
+        SuperiorAccommodationFactory superior = new SuperiorAccommodationFactory();
+        for (int n = 1; n <= roomCount; n++) {
+            repository.save(n % 4 == 0 ? superior.create(n) : standard.create(n));
+        }
+        index = AvailabilityIndex.of(repository, WEEKS);
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < roomCount * 2; i++) {
+            int from = random.nextInt(WEEKS);
+            index.book(1 + random.nextInt(roomCount), from, Math.min(WEEKS - 1, from + 3 + random.nextInt(9)));
+        }
+    }
+
+    @Benchmark
+    public int[] freeRooms() {
+        return index.freeRooms(RoomType.STANDARD, 0, rangeWeeks - 1);
+    }
+
+    @Benchmark
+    public int countFree() {
+        return index.countFree(RoomType.SUPERIOR, 0, rangeWeeks - 1);
+    }
+}
@@ -0,0 +1,45 @@
+package accommodation.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the selected benchmarks at 1, N/2 and N threads (N = available processors)
+ * with the GC profiler attached, so allocation rate and bytes/op are reported next to
+ * the timings.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar accommodation.benchmark.BenchmarkRunner [jmh options]
+ * </pre>
+ *
+ * Any standard JMH options (benchmark regexp, {@code -p roomCount=10000}, ...) are passed through.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options cli = new CommandLineOptions(args);
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : threadCounts(cores)) {
+            Options options = new OptionsBuilder()
+                    .parent(cli)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    static int[] threadCounts(int cores) {
+        int half = Math.max(1, cores / 2);
+        if (cores == 1) return new int[] {1};
+        if (half == 1)  return new int[] {1, cores};
+        return new int[] {1, half, cores};
+    }
+}
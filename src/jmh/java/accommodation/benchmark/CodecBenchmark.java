@@ -0,0 +1,107 @@
+package accommodation.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.infrastructure.codec.AccommodationCodec;
+
+/**
+ * Encoding and decoding a batch of rooms with {@link AccommodationCodec} versus Java
+ * serialization. {@code Accommodation} is not {@code Serializable}, so the baseline
+ * serializes an equivalent {@code (number, type, price)} record. Run with {@code -prof gc}
+ * to compare bytes allocated per batch as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"10000"})
+    public int batchSize;
+
+    private List<Accommodation> rooms;
+    private ArrayList<RoomRecord> records;
+    private ByteBuffer buffer;
+    private byte[] serialized;
+
+    record RoomRecord(int number, RoomType type, BigDecimal price) implements Serializable {}
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        rooms = new ArrayList<>(batchSize);
+        records = new ArrayList<>(batchSize);
+        StandardAccommodationFactory standard = new StandardAccommodationFactory();
+        SuperiorAccommodationFactory superior = new SuperiorAccommodationFactory();
+        for (int n = 1; n <= batchSize; n++) {
+            Accommodation room = n % 4 == 0 ? superior.create(n) : standard.create(n);
+            rooms.add(room);
+            records.add(new RoomRecord(room.getNumber(), room.getType(), room.getPricePerMonth()));
+        }
+        buffer = ByteBuffer.allocateDirect(AccommodationCodec.sizeOf(rooms));
+        AccommodationCodec.encodeBatch(buffer, rooms);
+        serialized = javaSerialize();
+    }
+
+    @Benchmark
+    public int codecEncode() {
+        buffer.clear();
+        AccommodationCodec.encodeBatch(buffer, rooms);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public int codecDecode(Blackhole bh) {
+        buffer.rewind();
+        return AccommodationCodec.decodeBatch(buffer, bh::consume);
+    }
+
+    @Benchmark
+    public byte[] javaSerializationEncode() throws IOException {
+        return javaSerialize();
+    }
+
+    @Benchmark
+    public Object javaSerializationDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    private byte[] javaSerialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(serialized == null ? 1 << 16 : serialized.length);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(records);
+        }
+        return bytes.toByteArray();
+    }
+}
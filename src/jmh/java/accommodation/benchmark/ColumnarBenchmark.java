@@ -0,0 +1,95 @@
+package accommodation.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.domain.analytics.ColumnarEstate;
+import accommodation.domain.analytics.EstateAggregates;
+import accommodation.domain.analytics.PriceSummary;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+/**
+ * Full-estate analytics: per-type count/sum/min/max and a price histogram, scanned from
+ * {@link ColumnarEstate} columns versus streamed over the repository's room objects, and
+ * the same counts and rent roll read from {@link EstateAggregates} without any scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarBenchmark {
+
+    @Param({"1000000", "5000000"})
+    public int roomCount;
+
+    private InMemoryAccommodationRepository repository;
+    private ColumnarEstate estate;
+    private EstateAggregates aggregates;
+
+    private static final BigDecimal FROM = BigDecimal.valueOf(500);
+    private static final BigDecimal WIDTH = BigDecimal.valueOf(25);
+
+    @Setup(Level.Trial)
+    public void populate() {
+        repository = new InMemoryAccommodationRepository();
+        for (int n = 1; n <= roomCount; n++) {
+            boolean superior = n % 4 == 0;
+            repository.save(new Accommodation(n, superior ? RoomType.SUPERIOR : RoomType.STANDARD,
+                    BigDecimal.valueOf((superior ? 90_000 : 65_000) + n % 10_000, 2)));
+        }
+        estate = ColumnarEstate.of(repository);
+        aggregates = EstateAggregates.of(repository);
+    }
+
+    @Benchmark
+    public Map<RoomType, PriceSummary> columnarByType() {
+        return estate.summarizeByType();
+    }
+
+    @Benchmark
+    public BigDecimal materializedRentRoll() {
+        return aggregates.rentRoll(RoomType.SUPERIOR).add(aggregates.rentRoll(RoomType.STANDARD));
+    }
+
+    @Benchmark
+    public PriceSummary columnarOneType() {
+        return estate.summarize(RoomType.SUPERIOR);
+    }
+
+    @Benchmark
+    public long[] columnarHistogram() {
+        return estate.priceHistogram(null, FROM, WIDTH, 32);
+    }
+
+    @Benchmark
+    public Map<RoomType, BigDecimal> objectStreamByType() {
+        return repository.findAll().stream().collect(Collectors.groupingBy(Accommodation::getType,
+                Collectors.reducing(BigDecimal.ZERO, Accommodation::getPricePerMonth, BigDecimal::add)));
+    }
+
+    @Benchmark
+    public Map<Long, Long> objectStreamHistogram() {
+        return repository.findAll().stream().collect(Collectors.groupingBy(
+                room -> Math.max(0, Math.min(31, room.getPricePerMonth().subtract(FROM).divideToIntegralValue(WIDTH).longValue())),
+                Collectors.counting()));
+    }
+}
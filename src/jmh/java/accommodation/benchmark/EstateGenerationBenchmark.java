@@ -0,0 +1,73 @@
+package accommodation.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.application.impl.EstateGenerator;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.factory.TypePlan;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+import static accommodation.domain.factory.TypePlan.share;
+
+/**
+ * Seeding a synthetic estate with {@link EstateGenerator} at different pool sizes.
+ * {@code parallelism = 0} means one worker per available core; compare it with {@code 1}
+ * to see how close generation gets to linear scaling on the machine at hand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EstateGenerationBenchmark {
+
+    @Param({"5000000"})
+    public int roomCount;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private final TypePlan plan = TypePlan.of(share(new StandardAccommodationFactory(), 4),
+            share(new SuperiorAccommodationFactory(), 1));
+    private ForkJoinPool pool;
+    private EstateGenerator generator;
+
+    @Setup(Level.Trial)
+    public void startPool() {
+        pool = new ForkJoinPool(parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+    }
+
+    @Setup(Level.Invocation)
+    public void freshCampus() {
+        generator = new EstateGenerator(plan, new InMemoryAccommodationRepository(),
+                ShardedHallRegistry.byRange(64, 1_000), pool, EstateGenerator.DEFAULT_BATCH_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long generate() {
+        return generator.generate(1, roomCount);
+    }
+}
@@ -0,0 +1,116 @@
+package accommodation.benchmark;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.application.ExecutionMode;
+import accommodation.application.impl.ScopedBulkOperations;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+/**
+ * Platform vs virtual threads for bulk operations against a store whose every call blocks
+ * for {@code latencyMicros}, standing in for disk or network I/O.
+ * <p>
+ * The platform pool has {@link #PLATFORM_THREADS} threads, so a batch takes roughly
+ * {@code batchSize / PLATFORM_THREADS} latencies; with virtual threads every call is in
+ * flight at once. {@code VIRTUAL} needs a Java 21 runtime and a {@code -Pjava21} build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int PLATFORM_THREADS = 64;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutionMode mode;
+
+    @Param({"1000", "10000"})
+    public int batchSize;
+
+    @Param({"1000"})
+    public long latencyMicros;
+
+    private ScopedBulkOperations bulk;
+    private int[] numbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (!mode.isSupported()) {
+            throw new IllegalStateException(mode + " needs Java 21, running " + Runtime.version());
+        }
+        AccommodationRepository repository = new BlockingRepository(TimeUnit.MICROSECONDS.toNanos(latencyMicros));
+        bulk = new ScopedBulkOperations(new StandardAccommodationFactory(), repository,
+                ShardedHallRegistry.byRange(16, 1_000), mode, PLATFORM_THREADS);
+        numbers = IntStream.rangeClosed(1, batchSize).toArray();
+        bulk.createAccommodations(numbers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bulk.close();
+    }
+
+    @Benchmark
+    public int createBatch() {
+        return bulk.createAccommodations(numbers).size();
+    }
+
+    @Benchmark
+    public int lookUpBatch() {
+        return bulk.findAllByNumbers(numbers).size();
+    }
+
+    /** Every call parks for a fixed latency before touching the in-memory store. */
+    static final class BlockingRepository implements AccommodationRepository {
+        private final InMemoryAccommodationRepository store = new InMemoryAccommodationRepository();
+        private final long latencyNanos;
+
+        BlockingRepository(long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override public void save(Accommodation accommodation) {
+            LockSupport.parkNanos(latencyNanos);
+            store.save(accommodation);
+        }
+
+        @Override public Accommodation saveIfAbsent(Accommodation accommodation) {
+            LockSupport.parkNanos(latencyNanos);
+            return store.saveIfAbsent(accommodation);
+        }
+
+        @Override public Optional<Accommodation> findByNumber(int roomNumber) {
+            LockSupport.parkNanos(latencyNanos);
+            return store.findByNumber(roomNumber);
+        }
+
+        @Override public Collection<Accommodation> findAll() {
+            return store.findAll();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package accommodation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.domain.builder.StandardRoomBuilder;
+import accommodation.domain.factory.AccommodationFactory;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Builder + factory cost in isolation, no map involved.
+ * <p>
+ * Run with {@code -prof gc}: every {@code create} should report 24 B/op, one
+ * {@link Accommodation}. The {@code NoEscapeAnalysis} variants switch off escape analysis,
+ * as happens when the call site is not inlined, to show what the builder itself costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryBenchmark {
+    private final AccommodationFactory standard = new StandardAccommodationFactory();
+    private final AccommodationFactory superior = new SuperiorAccommodationFactory();
+
+    @Benchmark
+    public Accommodation standardCreate(RoomCursor cursor) {
+        return standard.create(cursor.next(10_000));
+    }
+
+    @Benchmark
+    public Accommodation superiorCreate(RoomCursor cursor) {
+        return superior.create(cursor.next(10_000));
+    }
+
+    @Benchmark
+    public Accommodation builderCreate(RoomCursor cursor) {
+        return new StandardRoomBuilder().number(cursor.next(10_000)).build();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+    public Accommodation standardCreateNoEscapeAnalysis(RoomCursor cursor) {
+        return standard.create(cursor.next(10_000));
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+    public Accommodation builderCreateNoEscapeAnalysis(RoomCursor cursor) {
+        return new StandardRoomBuilder().number(cursor.next(10_000)).build();
+    }
+}
@@ -0,0 +1,72 @@
+package accommodation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.RoomRegistry;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.domain.singleton.HallRegistry;
+
+/**
+ * Register/find with {@code roomCount} rooms already registered, on the process-wide
+ * singleton or on a {@link ShardedHallRegistry} with one shard per core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class HallRegistryBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int roomCount;
+
+    @Param({"singleton", "sharded"})
+    public String registryKind;
+
+    private RoomRegistry registry;
+    private Accommodation[] rooms;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        HallRegistry.resetForTest();
+        registry = registryKind.equals("sharded") ? ShardedHallRegistry.perCore() : HallRegistry.instance();
+        rooms = new Accommodation[roomCount + 1];
+        SuperiorAccommodationFactory factory = new SuperiorAccommodationFactory();
+        for (int n = 1; n <= roomCount; n++) {
+            rooms[n] = factory.create(n);
+            registry.register(rooms[n]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void clear() {
+        HallRegistry.resetForTest();
+    }
+
+    @Benchmark
+    public void register(RoomCursor cursor) {
+        registry.register(rooms[cursor.next(roomCount)]);
+    }
+
+    @Benchmark
+    public Accommodation find(RoomCursor cursor) {
+        return registry.find(cursor.next(roomCount));
+    }
+}
@@ -0,0 +1,68 @@
+package accommodation.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.infrastructure.metrics.InstrumentedAccommodationRepository;
+import accommodation.infrastructure.metrics.LocalMetrics;
+import accommodation.infrastructure.metrics.Metrics;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+/**
+ * Cost of the instrumented repository decorator on the lookup and save hot paths, with
+ * metrics off (no decorator) and on. Run multi-threaded with {@code -t} to see how the
+ * striped counters and histogram buckets behave under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+    private static final int ROOM_COUNT = 100_000;
+
+    @Param({"off", "on"})
+    public String metrics;
+
+    private AccommodationRepository repository;
+    private Accommodation[] rooms;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        Metrics sink = metrics.equals("on") ? new LocalMetrics() : Metrics.noop();
+        repository = InstrumentedAccommodationRepository.wrap(new InMemoryAccommodationRepository(ROOM_COUNT), sink);
+        StandardAccommodationFactory factory = new StandardAccommodationFactory();
+        rooms = new Accommodation[ROOM_COUNT + 1];
+        for (int n = 1; n <= ROOM_COUNT; n++) {
+            rooms[n] = factory.create(n);
+            repository.save(rooms[n]);
+        }
+    }
+
+    @Benchmark
+    public Optional<Accommodation> findByNumber(RoomCursor cursor) {
+        return repository.findByNumber(cursor.next(ROOM_COUNT));
+    }
+
+    @Benchmark
+    public void save(RoomCursor cursor) {
+        repository.save(rooms[cursor.next(ROOM_COUNT)]);
+    }
+}
@@ -0,0 +1,71 @@
+package accommodation.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.occupancy.OccupancyLedger;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+/**
+ * Hold/confirm/release cycles from all cores on {@code roomCount} rooms. With few rooms
+ * most CAS attempts collide, which shows the cost of contention on a single room; with many
+ * rooms threads rarely meet and throughput should scale with the thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class OccupancyBenchmark {
+    private static final Duration HOLD = Duration.ofMinutes(5);
+
+    @Param({"1", "16", "1024", "100000"})
+    public int roomCount;
+
+    private OccupancyLedger ledger;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository(roomCount);
+        StandardAccommodationFactory factory = new StandardAccommodationFactory();
+        for (int n = 1; n <= roomCount; n++) {
+            repository.save(factory.create(n));
+        }
+        ledger = new OccupancyLedger(repository);
+    }
+
+    @State(Scope.Thread)
+    public static class Applicant {
+        final String id = "applicant-" + Thread.currentThread().getId();
+    }
+
+    @Benchmark
+    public boolean holdConfirmRelease(RoomCursor cursor, Applicant applicant) {
+        int room = cursor.next(roomCount);
+        if (!ledger.hold(room, applicant.id, HOLD)) return false;
+        ledger.confirm(room, applicant.id);
+        return ledger.release(room, applicant.id);
+    }
+
+    @Benchmark
+    public Object stateOf(RoomCursor cursor) {
+        return ledger.stateOf(cursor.next(roomCount));
+    }
+}
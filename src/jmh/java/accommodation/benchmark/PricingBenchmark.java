@@ -0,0 +1,88 @@
+package accommodation.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.pricing.PriceTable;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+/**
+ * Estate revenue projection and a type-wide uplift, done with {@link BigDecimal} per room
+ * versus on a {@link PriceTable}. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+    private static final BigDecimal UPLIFT = new BigDecimal("1.035");
+
+    @Param({"10000", "1000000"})
+    public int roomCount;
+
+    private Collection<Accommodation> rooms;
+    private PriceTable table;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository(roomCount);
+        for (int n = 1; n <= roomCount; n++) {
+            repository.save(new Accommodation(n, n % 2 == 0 ? RoomType.STANDARD : RoomType.SUPERIOR,
+                    BigDecimal.valueOf(60_000 + n % 50_000, 2)));
+        }
+        rooms = repository.findAll();
+        table = PriceTable.of(repository);
+    }
+
+    @Benchmark
+    public BigDecimal projectRevenueBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Accommodation room : rooms) {
+            total = total.add(room.getPricePerMonth().multiply(BigDecimal.valueOf(12)));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long projectRevenueTable() {
+        return table.projectRevenueMinor(12);
+    }
+
+    @Benchmark
+    public BigDecimal upliftBigDecimal() {
+        BigDecimal last = null;
+        for (Accommodation room : rooms) {
+            if (room.getType() == RoomType.SUPERIOR) {
+                last = room.getPricePerMonth().multiply(UPLIFT).setScale(2, RoundingMode.HALF_EVEN);
+            }
+        }
+        return last;
+    }
+
+    /** Applies the uplift and then undoes it, so prices stay bounded across iterations. */
+    @Benchmark
+    public int upliftTable() {
+        int n = table.multiply(RoomType.SUPERIOR, UPLIFT, RoundingMode.HALF_EVEN);
+        table.multiply(RoomType.SUPERIOR, BigDecimal.ONE.divide(UPLIFT, 6, RoundingMode.HALF_EVEN), RoundingMode.FLOOR);
+        return n;
+    }
+}
@@ -0,0 +1,81 @@
+package accommodation.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.infrastructure.persistence.DurableAccommodationRepository;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+/**
+ * Time-to-ready of {@link DurableAccommodationRepository} against log length.
+ * With {@code snapshotted}, a checkpoint is taken after 90% of the records so recovery
+ * loads the snapshot and replays only the last 10% of the log.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RecoveryBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int logLength;
+
+    @Param({"false", "true"})
+    public boolean snapshotted;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void writeLog() throws IOException {
+        directory = Files.createTempDirectory("recovery-bench");
+        StandardAccommodationFactory factory = new StandardAccommodationFactory();
+        try (DurableAccommodationRepository repository = new DurableAccommodationRepository(
+                new InMemoryAccommodationRepository(), directory,
+                DurableAccommodationRepository.DEFAULT_SEGMENT_BYTES, 0)) {
+            int checkpointAt = logLength / 10 * 9;
+            for (int n = 1; n <= logLength; n++) {
+                repository.save(factory.create(n));
+                if (snapshotted && n == checkpointAt) repository.checkpoint();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteLog() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    @Benchmark
+    public int recover() throws IOException {
+        try (DurableAccommodationRepository repository = new DurableAccommodationRepository(
+                new InMemoryAccommodationRepository(), directory,
+                DurableAccommodationRepository.DEFAULT_SEGMENT_BYTES, 0)) {
+            return repository.findAll().size();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package accommodation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import accommodation.infrastructure.repository.PrimitiveAccommodationRepository;
+
+/**
+ * Repository operations against an estate pre-populated with {@code roomCount} rooms.
+ * Saves overwrite existing room numbers so the estate size stays fixed during measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class RepositoryBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int roomCount;
+
+    @Param({"concurrent-hash", "primitive"})
+    public String store;
+
+    private AccommodationRepository repository;
+    private Accommodation[] rooms;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        repository = store.equals("primitive")
+                ? new PrimitiveAccommodationRepository()
+                : new InMemoryAccommodationRepository();
+        rooms = new Accommodation[roomCount + 1];
+        StandardAccommodationFactory factory = new StandardAccommodationFactory();
+        for (int n = 1; n <= roomCount; n++) {
+            rooms[n] = factory.create(n);
+            repository.save(rooms[n]);
+        }
+    }
+
+    @Benchmark
+    public void save(RoomCursor cursor) {
+        repository.save(rooms[cursor.next(roomCount)]);
+    }
+
+    @Benchmark
+    public Object findByNumber(RoomCursor cursor) {
+        return repository.findByNumber(cursor.next(roomCount));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void findAll(Blackhole bh) {
+        for (Accommodation room : repository.findAll()) {
+            bh.consume(room);
+        }
+    }
+}
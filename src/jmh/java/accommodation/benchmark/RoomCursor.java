@@ -0,0 +1,25 @@
+package accommodation.benchmark;
+
+import java.util.SplittableRandom;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread source of room numbers, so benchmark threads never share a counter.
+ */
+@State(Scope.Thread)
+public class RoomCursor {
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(Thread.currentThread().getId());
+    }
+
+    /** Uniformly distributed room number in {@code [1, roomCount]}. */
+    public int next(int roomCount) {
+        return 1 + random.nextInt(roomCount);
+    }
+}
@@ -0,0 +1,86 @@
+package accommodation.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import accommodation.application.impl.AccommodationServiceImpl;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.singleton.HallRegistry;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+/**
+ * End-to-end creation path: factory build, repository save and registry publication.
+ * Room numbers are drawn from {@code [1, roomCount]}, so once warmed up the maps hold
+ * {@code roomCount} entries and every call is an overwrite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ServiceBenchmark {
+
+    private static final int HALL_SIZE = 20_000;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int roomCount;
+
+    private AccommodationServiceImpl service;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        HallRegistry.resetForTest();
+        service = new AccommodationServiceImpl(new StandardAccommodationFactory(),
+                new InMemoryAccommodationRepository());
+        for (int n = 1; n <= roomCount; n++) {
+            service.createAccommodation(n);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void clear() {
+        HallRegistry.resetForTest();
+    }
+
+    @Benchmark
+    public Accommodation createAccommodation(RoomCursor cursor) {
+        return service.createAccommodation(cursor.next(roomCount));
+    }
+
+    /** Onboarding one 20k-room hall, one room at a time vs. one bulk call. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void onboardHallOneByOne() {
+        for (int n = 1; n <= HALL_SIZE; n++) {
+            service.createAccommodation(n);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Accommodation> onboardHallBulk() {
+        return service.createAccommodations(IntStream.rangeClosed(1, HALL_SIZE));
+    }
+
+    @Benchmark
+    public Accommodation findByNumber(RoomCursor cursor) {
+        return service.findByNumber(cursor.next(roomCount));
+    }
+}
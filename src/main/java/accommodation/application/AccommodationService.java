@@ -6,6 +6,9 @@ import accommodation.domain.repository.AccommodationRepository;
 import accommodation.domain.singleton.HallRegistry;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Use case level service: Coordinates Factory + Repository
@@ -14,6 +17,33 @@ public interface AccommodationService {
 
     Accommodation createAccommodation(int roomNumber);
 
+    /**
+     * Creates the room only if its number is free, without locks: concurrent callers for the
+     * same number all get the same winner back, and all but one see a conflict.
+     */
+    CreationResult tryCreate(int roomNumber);
+
+    /** @return the room stored under {@code roomNumber}, created by this call or not */
+    default Accommodation createIfAbsent(int roomNumber) {
+        return tryCreate(roomNumber).accommodation();
+    }
+
     Collection<Accommodation> listAll();
 
+    /** @return the room, or {@code null} if no room has that number */
+    Accommodation findByNumber(int roomNumber);
+
+    /** Keyset page of up to {@code limit} rooms numbered above {@code afterRoomNumber}, in order. */
+    List<Accommodation> listAll(int afterRoomNumber, int limit);
+
+    /** All rooms, lazily and in room-number order. */
+    Stream<Accommodation> streamAll();
+
+    /** Creates one room per number as a single bulk save and registry publication. */
+    List<Accommodation> createAccommodations(int... roomNumbers);
+
+    default List<Accommodation> createAccommodations(IntStream roomNumbers) {
+        return createAccommodations(roomNumbers.toArray());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package accommodation.application;
+
+import accommodation.domain.model.Accommodation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Non-blocking variant of {@link AccommodationService}. Methods return immediately; work
+ * that reaches the repository is bounded by an in-flight limit, and operations beyond the
+ * limit are queued rather than parking the caller. When the queue is full too, the returned
+ * future fails with {@link java.util.concurrent.RejectedExecutionException} so the request
+ * layer can shed load.
+ */
+public interface AsyncAccommodationService {
+
+    CompletableFuture<Accommodation> createAccommodationAsync(int roomNumber);
+
+    CompletableFuture<CreationResult> tryCreateAsync(int roomNumber);
+
+    CompletableFuture<List<Accommodation>> createAccommodationsAsync(int... roomNumbers);
+
+    CompletableFuture<Optional<Accommodation>> findByNumberAsync(int roomNumber);
+
+    /** Keyset page of up to {@code limit} rooms numbered above {@code afterRoomNumber}, in order. */
+    CompletableFuture<List<Accommodation>> listAllAsync(int afterRoomNumber, int limit);
+
+    /**
+     * All rooms in room-number order. Pages are fetched from the repository only as the
+     * subscriber requests more, so a slow subscriber never causes the estate to be buffered.
+     */
+    Flow.Publisher<Accommodation> streamAll();
+}
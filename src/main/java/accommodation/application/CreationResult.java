@@ -0,0 +1,22 @@
+package accommodation.application;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Outcome of a create-once request: the room now stored under the number, and whether this
+ * call created it or lost to a room that already existed.
+ */
+public record CreationResult(Accommodation accommodation, boolean created) {
+
+    public static CreationResult created(Accommodation accommodation) {
+        return new CreationResult(accommodation, true);
+    }
+
+    public static CreationResult conflict(Accommodation existing) {
+        return new CreationResult(existing, false);
+    }
+
+    public boolean conflict() {
+        return !created;
+    }
+}
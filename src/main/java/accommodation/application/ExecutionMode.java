@@ -0,0 +1,55 @@
+package accommodation.application;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Threads that bulk operations fan out on.
+ * <p>
+ * {@link #VIRTUAL} needs a Java 21 runtime (build with {@code -Pjava21}). It is looked up
+ * reflectively so the code base still compiles for, and runs on, Java 17, where
+ * {@link #isSupported()} reports {@code false}.
+ */
+public enum ExecutionMode {
+    /** A fixed pool of platform threads; each blocking call holds one of them. */
+    PLATFORM,
+    /** One virtual thread per task; a blocking call only parks the virtual thread. */
+    VIRTUAL;
+
+    private static final MethodHandle NEW_VIRTUAL_EXECUTOR = findVirtualExecutorFactory();
+
+    public boolean isSupported() {
+        return this == PLATFORM || NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * @param platformThreads pool size for {@link #PLATFORM}; ignored for {@link #VIRTUAL}
+     * @throws UnsupportedOperationException for {@link #VIRTUAL} on a runtime without virtual threads
+     */
+    public ExecutorService newExecutor(int platformThreads) {
+        if (this == PLATFORM) {
+            return Executors.newFixedThreadPool(platformThreads);
+        }
+        if (NEW_VIRTUAL_EXECUTOR == null) {
+            throw new UnsupportedOperationException("virtual threads need Java 21, running "
+                    + Runtime.version());
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("could not create a virtual-thread executor", e);
+        }
+    }
+
+    private static MethodHandle findVirtualExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
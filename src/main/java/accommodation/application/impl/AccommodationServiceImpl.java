@@ -1,36 +1,95 @@
 package accommodation.application.impl;
 
 import accommodation.application.AccommodationService;
+import accommodation.application.CreationResult;
 import accommodation.domain.factory.AccommodationFactory;
 import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.RepositoryRegistryView;
+import accommodation.domain.registry.RoomRegistry;
 import accommodation.domain.repository.AccommodationRepository;
 import accommodation.domain.singleton.HallRegistry;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public class AccommodationServiceImpl implements AccommodationService {
     private final AccommodationFactory factory;
     private final AccommodationRepository repository;
+    private final RoomRegistry registry;
+    private final boolean registryIsView;
 
+    /** Publishes rooms to the process-wide {@link HallRegistry}. */
     public AccommodationServiceImpl(AccommodationFactory factory,
                                 AccommodationRepository repository) {
+        this(factory, repository, HallRegistry.instance());
+    }
+
+    /** Publishes rooms to {@code registry}, e.g. a per-campus {@code ShardedHallRegistry}. */
+    public AccommodationServiceImpl(AccommodationFactory factory,
+                                AccommodationRepository repository,
+                                RoomRegistry registry) {
         this.factory = factory;
         this.repository = repository;
+        this.registry = registry;
+        this.registryIsView = registry.isViewOf(repository);
     }
 
-    /** Creates room and registers it with repository and singleton Registry */
+    /**
+     * Single source of truth: the registry is a view over {@code repository}, so creation
+     * is one insert and every lookup reads the same store that {@link #listAll()} does.
+     */
+    public static AccommodationServiceImpl unified(AccommodationFactory factory,
+                                                   AccommodationRepository repository) {
+        return new AccommodationServiceImpl(factory, repository, new RepositoryRegistryView(repository));
+    }
+
+    /** Creates room and registers it with repository and Registry */
     public Accommodation createAccommodation(int roomNumber) {
         Accommodation acc = factory.create(roomNumber);
         repository.save(acc);
-        HallRegistry.instance().register(acc);
+        if (!registryIsView) registry.register(acc);
         return acc;
     }
 
+    /**
+     * The repository arbitrates and only the winning room is published to the registry. Both
+     * outcomes publish with {@code registerIfAbsent}, so a loser can look up the room it was
+     * told about even before the winner got that far, and neither overwrites a room another
+     * caller registered in the meantime.
+     */
+    public CreationResult tryCreate(int roomNumber) {
+        Accommodation candidate = factory.create(roomNumber);
+        Accommodation winner = repository.saveIfAbsent(candidate);
+        if (!registryIsView) registry.registerIfAbsent(winner);
+        return winner == candidate ? CreationResult.created(candidate) : CreationResult.conflict(winner);
+    }
+
+    /** Builds the whole batch first, then saves and registers it once */
+    public List<Accommodation> createAccommodations(int... roomNumbers) {
+        List<Accommodation> created = new ArrayList<>(roomNumbers.length);
+        for (int roomNumber : roomNumbers) {
+            created.add(factory.create(roomNumber));
+        }
+        repository.saveAll(created);
+        if (!registryIsView) registry.registerAll(created);
+        return created;
+    }
+
     public Collection<Accommodation> listAll() {
         return repository.findAll();
     }
 
+    public List<Accommodation> listAll(int afterRoomNumber, int limit) {
+        return repository.findAll(afterRoomNumber, limit);
+    }
+
+    public Stream<Accommodation> streamAll() {
+        return repository.streamAll();
+    }
+
     public Accommodation findByNumber(int roomNumber) {
-        return HallRegistry.instance().find(roomNumber);
+        return registry.find(roomNumber);
     }
 }
@@ -0,0 +1,124 @@
+package accommodation.application.impl;
+
+import accommodation.application.AsyncAccommodationService;
+import accommodation.application.CreationResult;
+import accommodation.domain.factory.AccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.RoomRegistry;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.domain.repository.AsyncAccommodationRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link AsyncAccommodationService} over an {@link AsyncAccommodationRepository}. Rooms are
+ * built by the factory on the calling thread, stored asynchronously and published to the
+ * registry when the store completes; lookups are answered from the registry without a hop.
+ * Failures, including a room number the factory rejects, are reported through the returned
+ * future rather than thrown.
+ */
+public class AsyncAccommodationServiceImpl implements AsyncAccommodationService {
+    public static final int DEFAULT_PAGE_SIZE = 512;
+
+    private final AccommodationFactory factory;
+    private final AsyncAccommodationRepository repository;
+    private final RoomRegistry registry;
+    private final boolean registryIsView;
+    private final InFlightLimiter limiter;
+    private final Executor executor;
+
+    /**
+     * @param executor    thread pool that delivers {@link #streamAll()} signals
+     * @param maxInFlight repository operations allowed to run at once
+     * @param maxQueued   operations allowed to wait for a slot before new ones are rejected
+     */
+    public AsyncAccommodationServiceImpl(AccommodationFactory factory,
+                                         AsyncAccommodationRepository repository,
+                                         RoomRegistry registry,
+                                         Executor executor,
+                                         int maxInFlight, int maxQueued) {
+        this(factory, repository, registry, false, executor, maxInFlight, maxQueued);
+    }
+
+    private AsyncAccommodationServiceImpl(AccommodationFactory factory,
+                                          AsyncAccommodationRepository repository,
+                                          RoomRegistry registry, boolean registryIsView,
+                                          Executor executor, int maxInFlight, int maxQueued) {
+        this.factory = factory;
+        this.repository = repository;
+        this.registry = registry;
+        this.registryIsView = registryIsView;
+        this.executor = executor;
+        this.limiter = new InFlightLimiter(maxInFlight, maxQueued);
+    }
+
+    /** Runs the blocking {@code repository} on {@code executor}; see {@link AsyncAccommodationRepository#offloading}. */
+    public static AsyncAccommodationServiceImpl offloading(AccommodationFactory factory,
+                                                           AccommodationRepository repository,
+                                                           RoomRegistry registry,
+                                                           Executor executor,
+                                                           int maxInFlight, int maxQueued) {
+        return new AsyncAccommodationServiceImpl(factory,
+                AsyncAccommodationRepository.offloading(repository, executor),
+                registry, registry.isViewOf(repository), executor, maxInFlight, maxQueued);
+    }
+
+    @Override public CompletableFuture<Accommodation> createAccommodationAsync(int roomNumber) {
+        Accommodation acc;
+        try {
+            acc = factory.create(roomNumber);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return limiter.submit(() -> repository.saveAsync(acc)).thenApply(stored -> {
+            if (!registryIsView) registry.register(acc);
+            return acc;
+        });
+    }
+
+    @Override public CompletableFuture<CreationResult> tryCreateAsync(int roomNumber) {
+        Accommodation candidate;
+        try {
+            candidate = factory.create(roomNumber);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // same registry publication as AccommodationServiceImpl.tryCreate
+        return limiter.submit(() -> repository.saveIfAbsentAsync(candidate)).thenApply(winner -> {
+            if (!registryIsView) registry.registerIfAbsent(winner);
+            return winner == candidate ? CreationResult.created(candidate) : CreationResult.conflict(winner);
+        });
+    }
+
+    @Override public CompletableFuture<List<Accommodation>> createAccommodationsAsync(int... roomNumbers) {
+        List<Accommodation> created = new ArrayList<>(roomNumbers.length);
+        try {
+            for (int roomNumber : roomNumbers) {
+                created.add(factory.create(roomNumber));
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return limiter.submit(() -> repository.saveAllAsync(created)).thenApply(stored -> {
+            if (!registryIsView) registry.registerAll(created);
+            return created;
+        });
+    }
+
+    @Override public CompletableFuture<Optional<Accommodation>> findByNumberAsync(int roomNumber) {
+        return CompletableFuture.completedFuture(Optional.ofNullable(registry.find(roomNumber)));
+    }
+
+    @Override public CompletableFuture<List<Accommodation>> listAllAsync(int afterRoomNumber, int limit) {
+        return limiter.submit(() -> repository.findAllAsync(afterRoomNumber, limit));
+    }
+
+    @Override public Flow.Publisher<Accommodation> streamAll() {
+        return new RoomPublisher(repository, limiter, executor, DEFAULT_PAGE_SIZE);
+    }
+}
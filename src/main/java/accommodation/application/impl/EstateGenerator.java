@@ -0,0 +1,97 @@
+package accommodation.application.impl;
+
+import accommodation.domain.factory.AccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.RoomRegistry;
+import accommodation.domain.repository.AccommodationRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Seeds a campus by splitting a room-number range across a {@link ForkJoinPool}.
+ * <p>
+ * Each leaf of at most {@code batchSize} rooms is built on one worker and then published with
+ * a single {@code saveAll} and {@code registerAll}, so shared structures are touched once per
+ * batch instead of once per room. Whether the run scales with cores is then down to how
+ * concurrent the repository's and registry's batch writes are: an
+ * {@code InMemoryAccommodationRepository} with a {@code ShardedHallRegistry} scale, a store
+ * that takes one lock per batch serialises the publishing step.
+ */
+public final class EstateGenerator {
+    public static final int DEFAULT_BATCH_SIZE = 4_096;
+
+    private final AccommodationFactory factory;
+    private final AccommodationRepository repository;
+    private final RoomRegistry registry;
+    private final boolean registryIsView;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    /** Runs on the common pool with {@link #DEFAULT_BATCH_SIZE}. */
+    public EstateGenerator(AccommodationFactory factory, AccommodationRepository repository, RoomRegistry registry) {
+        this(factory, repository, registry, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /** @param factory e.g. a {@code StandardAccommodationFactory} or a mixed {@code TypePlan} */
+    public EstateGenerator(AccommodationFactory factory, AccommodationRepository repository, RoomRegistry registry,
+                           ForkJoinPool pool, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch size must be positive: " + batchSize);
+        }
+        this.factory = factory;
+        this.repository = repository;
+        this.registry = registry;
+        this.registryIsView = registry.isViewOf(repository);
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates, saves and registers rooms {@code firstRoom..lastRoom} inclusive.
+     *
+     * @return the number of rooms generated
+     */
+    public long generate(int firstRoom, int lastRoom) {
+        if (firstRoom > lastRoom) {
+            throw new IllegalArgumentException("empty range " + firstRoom + ".." + lastRoom);
+        }
+        return pool.invoke(new Slice(firstRoom, lastRoom));
+    }
+
+    @SuppressWarnings("serial")   // fork/join tasks are never serialized
+    private final class Slice extends RecursiveTask<Long> {
+        private final int first;
+        private final int last;
+
+        Slice(int first, int last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override protected Long compute() {
+            long length = (long) last - first + 1;
+            if (length <= batchSize) {
+                return publish();
+            }
+            int middle = (int) (first + length / 2 - 1);
+            Slice right = new Slice(middle + 1, last);
+            right.fork();
+            long left = new Slice(first, middle).compute();
+            return left + right.join();
+        }
+
+        private long publish() {
+            List<Accommodation> batch = new ArrayList<>(last - first + 1);
+            for (int n = first; ; n++) {
+                batch.add(factory.create(n));
+                if (n == last) break;
+            }
+            repository.saveAll(batch);
+            if (!registryIsView) registry.registerAll(batch);
+            return batch.size();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package accommodation.application.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of asynchronous operations running at once without blocking anyone.
+ * Operations over the cap wait in a bounded queue and are started, on the thread that
+ * completes an earlier operation, as slots free up. Once the queue is full, new operations
+ * fail fast with {@link RejectedExecutionException}.
+ * <p>
+ * Queued operations are started by one draining thread at a time, guarded by a
+ * work-in-progress counter. An operation that completes synchronously releases its slot
+ * back into that same loop instead of recursing, so a long queue of instant operations
+ * cannot overflow the stack.
+ */
+final class InFlightLimiter {
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainWip = new AtomicInteger();
+
+    InFlightLimiter(int maxInFlight, int maxQueued) {
+        if (maxInFlight <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("in-flight limit must be positive and queue limit not negative");
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            CompletableFuture<T> running;
+            try {
+                running = operation.get();
+            } catch (RuntimeException e) {
+                running = CompletableFuture.failedFuture(e);
+            }
+            running.whenComplete((value, failure) -> {
+                release();
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            });
+        };
+
+        if (tryAcquire()) {
+            start.run();
+            return result;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("more than " + maxQueued + " operations waiting"));
+        }
+        waiting.add(start);
+        startWaiting();     // a slot may have freed between tryAcquire() and add()
+        return result;
+    }
+
+    int inFlight() {
+        return running.get();
+    }
+
+    int queued() {
+        return queued.get();
+    }
+
+    private void release() {
+        running.decrementAndGet();
+        startWaiting();
+    }
+
+    private void startWaiting() {
+        if (drainWip.getAndIncrement() != 0) return;   // the draining thread will look again
+        int missed = 1;
+        do {
+            while (!waiting.isEmpty() && tryAcquire()) {
+                Runnable next = waiting.poll();
+                if (next == null) {
+                    running.decrementAndGet();
+                    continue;
+                }
+                queued.decrementAndGet();
+                next.run();
+            }
+            missed = drainWip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private boolean tryAcquire() {
+        for (int current = running.get(); current < maxInFlight; current = running.get()) {
+            if (running.compareAndSet(current, current + 1)) return true;
+        }
+        return false;
+    }
+}
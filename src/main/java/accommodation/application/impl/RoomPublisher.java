@@ -0,0 +1,124 @@
+package accommodation.application.impl;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.repository.AsyncAccommodationRepository;
+
+/**
+ * Publishes every room in room-number order by walking the repository's keyset pages.
+ * <p>
+ * Each subscription holds at most one page. The next page is only requested from the
+ * repository once the current one has been delivered and the subscriber has outstanding
+ * demand, which is what turns a slow subscriber into backpressure on the store. Page
+ * fetches go through the service's {@link InFlightLimiter} like any other repository call.
+ * Signals are serialized through a work-in-progress counter and delivered on
+ * {@code executor}.
+ */
+final class RoomPublisher implements Flow.Publisher<Accommodation> {
+    private final AsyncAccommodationRepository repository;
+    private final InFlightLimiter limiter;
+    private final Executor executor;
+    private final int pageSize;
+
+    RoomPublisher(AsyncAccommodationRepository repository, InFlightLimiter limiter, Executor executor, int pageSize) {
+        this.repository = repository;
+        this.limiter = limiter;
+        this.executor = executor;
+        this.pageSize = pageSize;
+    }
+
+    @Override public void subscribe(Flow.Subscriber<? super Accommodation> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new PageSubscription(subscriber));
+    }
+
+    private final class PageSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super Accommodation> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final ArrayDeque<Accommodation> buffer = new ArrayDeque<>();
+
+        private volatile boolean cancelled;
+        private volatile boolean fetching;
+        private volatile List<Accommodation> arrived;
+        private volatile Throwable failure;
+        private boolean exhausted;
+        private boolean done;
+        private int lastNumber;
+
+        PageSubscription(Flow.Subscriber<? super Accommodation> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("request must be positive, was " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            schedule();
+        }
+
+        @Override public void cancel() {
+            cancelled = true;
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (done || cancelled) {
+                    buffer.clear();
+                } else {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            List<Accommodation> page = arrived;
+            if (page != null) {
+                arrived = null;
+                buffer.addAll(page);
+                exhausted = page.size() < pageSize;
+                if (!page.isEmpty()) lastNumber = page.get(page.size() - 1).getNumber();
+            }
+            while (!buffer.isEmpty() && demand.get() > 0 && !cancelled) {
+                subscriber.onNext(buffer.poll());
+                demand.decrementAndGet();
+            }
+            if (failure != null) {
+                done = true;
+                subscriber.onError(failure);
+            } else if (buffer.isEmpty() && exhausted) {
+                done = true;
+                subscriber.onComplete();
+            } else if (buffer.isEmpty() && demand.get() > 0 && !fetching && !cancelled) {
+                fetching = true;
+                int after = lastNumber;
+                limiter.submit(() -> repository.findAllAsync(after, pageSize)).whenComplete((next, error) -> {
+                    if (error != null) {
+                        failure = error;
+                    } else {
+                        arrived = next;
+                    }
+                    fetching = false;
+                    schedule();
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package accommodation.application.impl;
+
+import accommodation.application.ExecutionMode;
+import accommodation.domain.factory.AccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.RoomRegistry;
+import accommodation.domain.repository.AccommodationRepository;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Bulk creation, multi-room lookup and persistence flushes, fanned out one blocking call per
+ * subtask inside a {@link TaskScope}.
+ * <p>
+ * This pays off when each repository call waits on I/O (a file-backed or remote store):
+ * with {@link ExecutionMode#VIRTUAL} every in-flight call parks a cheap virtual thread, so
+ * tens of thousands of calls can be outstanding at once, whereas {@link ExecutionMode#PLATFORM}
+ * is limited to its pool size. If any call fails, calls that have not started are skipped,
+ * calls already running finish (they are never interrupted mid-I/O), and the first failure is
+ * rethrown; rooms already saved by then stay saved but are not published.
+ */
+public final class ScopedBulkOperations implements AutoCloseable {
+    private final AccommodationFactory factory;
+    private final AccommodationRepository repository;
+    private final RoomRegistry registry;
+    private final boolean registryIsView;
+    private final ExecutorService executor;
+
+    /** @param platformThreads pool size used in {@link ExecutionMode#PLATFORM} mode */
+    public ScopedBulkOperations(AccommodationFactory factory, AccommodationRepository repository,
+                                RoomRegistry registry, ExecutionMode mode, int platformThreads) {
+        this.factory = factory;
+        this.repository = repository;
+        this.registry = registry;
+        this.registryIsView = registry.isViewOf(repository);
+        this.executor = mode.newExecutor(platformThreads);
+    }
+
+    /** Saves every room concurrently, then publishes the batch to the registry once. */
+    public List<Accommodation> createAccommodations(int... roomNumbers) {
+        List<Accommodation> created = new ArrayList<>(roomNumbers.length);
+        for (int roomNumber : roomNumbers) {
+            created.add(factory.create(roomNumber));
+        }
+        try (TaskScope scope = new TaskScope(executor)) {
+            for (Accommodation accommodation : created) {
+                scope.fork(() -> {
+                    repository.save(accommodation);
+                    return null;
+                });
+            }
+            join(scope);
+        }
+        if (!registryIsView) registry.registerAll(created);
+        return created;
+    }
+
+    /** Looks every number up concurrently; result is in request order with unknown numbers skipped. */
+    public List<Accommodation> findAllByNumbers(int... roomNumbers) {
+        List<TaskScope.Subtask<Accommodation>> lookups = new ArrayList<>(roomNumbers.length);
+        try (TaskScope scope = new TaskScope(executor)) {
+            for (int roomNumber : roomNumbers) {
+                lookups.add(scope.fork(() -> repository.findByNumber(roomNumber).orElse(null)));
+            }
+            join(scope);
+        }
+        List<Accommodation> found = new ArrayList<>(lookups.size());
+        for (TaskScope.Subtask<Accommodation> lookup : lookups) {
+            if (lookup.get() != null) found.add(lookup.get());
+        }
+        return found;
+    }
+
+    /** Flushes every store concurrently, e.g. several memory-mapped repositories. */
+    public void flushAll(Collection<? extends Flushable> stores) {
+        try (TaskScope scope = new TaskScope(executor)) {
+            for (Flushable store : stores) {
+                scope.fork(() -> {
+                    store.flush();
+                    return null;
+                });
+            }
+            join(scope);
+        }
+    }
+
+    @Override public void close() {
+        executor.shutdown();
+    }
+
+    private static void join(TaskScope scope) {
+        try {
+            scope.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("bulk operation interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            if (cause instanceof IOException io) throw new UncheckedIOException(io);
+            throw new IllegalStateException("bulk operation failed", cause);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package accommodation.application.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Structured fan-out with shutdown-on-failure semantics, the same shape as Java 21's
+ * {@code StructuredTaskScope.ShutdownOnFailure} (still a preview API there), usable on 17.
+ * <p>
+ * Subtasks are forked onto an executor, the owner {@link #join() joins} them all, and no
+ * subtask outlives the scope: the first failure makes unstarted siblings skip their body, and
+ * {@link #close()} waits until every forked subtask has exited. Forking and joining must
+ * happen on the owner thread.
+ * <p>
+ * Unlike the JDK scope, running siblings are not interrupted. They are typically blocked in
+ * {@code FileChannel} writes or forces, and an interrupt there closes the channel
+ * ({@code ClosedByInterruptException}), breaking the store for every later caller.
+ */
+final class TaskScope implements AutoCloseable {
+    private final Executor executor;
+    private final Semaphore exited = new Semaphore(0);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean shutdown;
+    private int outstanding;
+
+    TaskScope(Executor executor) {
+        this.executor = executor;
+    }
+
+    <T> Subtask<T> fork(Callable<? extends T> task) {
+        Subtask<T> subtask = new Subtask<>();
+        outstanding++;
+        try {
+            executor.execute(() -> run(task, subtask));
+        } catch (RuntimeException e) {
+            outstanding--;
+            throw e;
+        }
+        return subtask;
+    }
+
+    /**
+     * Waits for every forked subtask.
+     *
+     * @throws ExecutionException wrapping the first subtask failure
+     */
+    void join() throws InterruptedException, ExecutionException {
+        try {
+            exited.acquire(outstanding);
+            outstanding = 0;
+        } catch (InterruptedException e) {
+            shutdown = true;
+            throw e;
+        }
+        Throwable first = failure.get();
+        if (first != null) throw new ExecutionException(first);
+    }
+
+    @Override public void close() {
+        if (outstanding > 0) {
+            shutdown = true;
+            exited.acquireUninterruptibly(outstanding);
+            outstanding = 0;
+        }
+    }
+
+    private <T> void run(Callable<? extends T> task, Subtask<T> subtask) {
+        try {
+            if (!shutdown) subtask.value = task.call();
+        } catch (Throwable e) {
+            if (failure.compareAndSet(null, e)) shutdown = true;
+        } finally {
+            exited.release();
+        }
+    }
+
+    static final class Subtask<T> {
+        private volatile T value;
+
+        /** The subtask's result; only meaningful after a successful {@link TaskScope#join()}. */
+        T get() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package accommodation.domain.analytics;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.pricing.MinorUnits;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.domain.repository.RoomChangeListener;
+
+/**
+ * Read-optimised, column-wise copy of the estate for analytic scans.
+ * <p>
+ * Rooms live in three parallel arrays in arrival order: {@code int} numbers, {@code byte}
+ * type ordinals and prices as {@code long} minor units at a fixed scale. Aggregates and
+ * histograms stream through one or two of those arrays with no per-room objects, which
+ * keeps millions of rooms to a few milliseconds. A primitive open-addressing index from
+ * room number to slot lets an overwritten room be updated in place.
+ * <p>
+ * Register the estate with an {@code ObservableAccommodationRepository} to keep it current as
+ * rooms are saved, or build a one-off copy with {@link #of}. Updates take the write lock,
+ * scans the read lock.
+ */
+public final class ColumnarEstate implements RoomChangeListener {
+    public static final int DEFAULT_SCALE = 2;
+
+    private static final RoomType[] TYPES = RoomType.values();
+    private static final int INITIAL_ROOMS = 1 << 10;
+
+    private final int scale;
+    private final StampedLock lock = new StampedLock();
+
+    private int[] numbers = new int[INITIAL_ROOMS];
+    private byte[] types = new byte[INITIAL_ROOMS];
+    private long[] prices = new long[INITIAL_ROOMS];
+    private int[] index = new int[INITIAL_ROOMS * 2];  // slot + 1, 0 = empty
+    private int size;
+
+    public ColumnarEstate() {
+        this(DEFAULT_SCALE);
+    }
+
+    /** @param scale decimal places kept per price; finer prices are rounded half-even */
+    public ColumnarEstate(int scale) {
+        if (scale < 0 || scale > 18) {
+            throw new IllegalArgumentException("scale must be within 0..18: " + scale);
+        }
+        this.scale = scale;
+    }
+
+    /** One-off copy of every room currently in {@code repository}. */
+    public static ColumnarEstate of(AccommodationRepository repository) {
+        ColumnarEstate estate = new ColumnarEstate();
+        repository.streamAll().forEach(estate::upsert);
+        return estate;
+    }
+
+    @Override public void onSave(Accommodation previous, Accommodation current) {
+        upsert(current);
+    }
+
+    /**
+     * Adds a room, or overwrites the type and price of the room with the same number. Accepts
+     * every room: a price finer than the scale is rounded half-even, see
+     * {@link MinorUnits#toMinorRounded}.
+     */
+    public void upsert(Accommodation accommodation) {
+        int number = accommodation.getNumber();
+        byte type = (byte) accommodation.getType().ordinal();
+        long price = MinorUnits.toMinorRounded(accommodation.getPricePerMonth(), scale);
+        long stamp = lock.writeLock();
+        try {
+            int probe = find(number);
+            int slot = index[probe] - 1;
+            if (slot < 0) {
+                slot = size++;
+                ensureCapacity(size);
+                numbers[slot] = number;
+                index[find(number)] = slot + 1;
+            }
+            types[slot] = type;
+            prices[slot] = price;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    /** Count, sum, min and max over rooms of {@code type}, in one pass. */
+    public PriceSummary summarize(RoomType type) {
+        byte t = (byte) type.ordinal();
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        long stamp = lock.readLock();
+        try {
+            byte[] ty = types;
+            long[] pr = prices;
+            for (int i = 0, n = size; i < n; i++) {
+                if (ty[i] == t) {
+                    long p = pr[i];
+                    count++;
+                    sum += p;
+                    min = Math.min(min, p);
+                    max = Math.max(max, p);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return summary(type, count, sum, min, max);
+    }
+
+    /** Whole-estate summary, {@code type} left {@code null}. */
+    public PriceSummary summarize() {
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        int count;
+        long stamp = lock.readLock();
+        try {
+            long[] pr = prices;
+            count = size;
+            for (int i = 0; i < count; i++) {
+                long p = pr[i];
+                sum += p;
+                min = Math.min(min, p);
+                max = Math.max(max, p);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return summary(null, count, sum, min, max);
+    }
+
+    /** Per-type summaries from a single pass over the type and price columns. */
+    public Map<RoomType, PriceSummary> summarizeByType() {
+        long[] count = new long[TYPES.length];
+        long[] sum = new long[TYPES.length];
+        long[] min = new long[TYPES.length];
+        long[] max = new long[TYPES.length];
+        Arrays.fill(min, Long.MAX_VALUE);
+        Arrays.fill(max, Long.MIN_VALUE);
+        long stamp = lock.readLock();
+        try {
+            byte[] ty = types;
+            long[] pr = prices;
+            for (int i = 0, n = size; i < n; i++) {
+                int t = ty[i];
+                long p = pr[i];
+                count[t]++;
+                sum[t] += p;
+                if (p < min[t]) min[t] = p;
+                if (p > max[t]) max[t] = p;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        Map<RoomType, PriceSummary> byType = new EnumMap<>(RoomType.class);
+        for (RoomType type : TYPES) {
+            int t = type.ordinal();
+            byType.put(type, summary(type, count[t], sum[t], min[t], max[t]));
+        }
+        return byType;
+    }
+
+    /**
+     * Room counts per price bucket: bucket {@code i} covers
+     * {@code [from + i*width, from + (i+1)*width)}. Prices below {@code from} land in the first
+     * bucket and prices past the last one in the last bucket.
+     *
+     * @param type rooms of this type only, or {@code null} for every room
+     */
+    public long[] priceHistogram(RoomType type, BigDecimal from, BigDecimal width, int buckets) {
+        if (buckets <= 0) throw new IllegalArgumentException("buckets must be positive");
+        long origin = MinorUnits.toMinor(from, scale);
+        long step = MinorUnits.toMinor(width, scale);
+        if (step <= 0) throw new IllegalArgumentException("bucket width must be positive");
+        int only = type == null ? -1 : type.ordinal();
+        int last = buckets - 1;
+        long[] counts = new long[buckets];
+        long stamp = lock.readLock();
+        try {
+            byte[] ty = types;
+            long[] pr = prices;
+            for (int i = 0, n = size; i < n; i++) {
+                if (only >= 0 && ty[i] != only) continue;
+                long offset = pr[i] - origin;
+                int bucket = offset < 0 ? 0 : (int) Math.min(offset / step, last);
+                counts[bucket]++;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return counts;
+    }
+
+    private PriceSummary summary(RoomType type, long count, long sum, long min, long max) {
+        if (count == 0) {
+            return new PriceSummary(type, 0, MinorUnits.toDecimal(0, scale), null, null);
+        }
+        return new PriceSummary(type, count, MinorUnits.toDecimal(sum, scale),
+                MinorUnits.toDecimal(min, scale), MinorUnits.toDecimal(max, scale));
+    }
+
+    /** Index position holding {@code number}'s slot, or the empty position where it would go. */
+    private int find(int number) {
+        int mask = index.length - 1;
+        int h = number * 0x9E3779B9;
+        for (int i = (h ^ (h >>> 16)) & mask; ; i = (i + 1) & mask) {
+            int slot = index[i] - 1;
+            if (slot < 0 || numbers[slot] == number) return i;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > numbers.length) {
+            int grown = Math.max(required, numbers.length * 2);
+            numbers = Arrays.copyOf(numbers, grown);
+            types = Arrays.copyOf(types, grown);
+            prices = Arrays.copyOf(prices, grown);
+        }
+        if (required * 2 > index.length) {
+            index = new int[Integer.highestOneBit(required * 4 - 1)];
+            for (int slot = 0; slot < required - 1; slot++) {
+                index[find(numbers[slot])] = slot + 1;
+            }
+        }
+    }
+}
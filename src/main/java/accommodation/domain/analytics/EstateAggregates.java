@@ -0,0 +1,123 @@
+package accommodation.domain.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.pricing.MinorUnits;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.domain.repository.RoomChangeListener;
+
+/**
+ * Dashboard figures kept up to date on every save: rooms per type, rent roll and average
+ * price, each readable in constant time however large the estate is.
+ * <p>
+ * Every type has a {@link LongAdder} room count and a {@link LongAdder} sum of monthly
+ * prices in minor units. A save adds the new room to its type; an overwrite first takes the
+ * replaced room off its own type, so retyping or repricing a room moves it rather than
+ * counting it twice. Adders are striped internally, so concurrent creators do not contend.
+ * Prices with more decimals than the scale are rounded half-even, and the same room always
+ * rounds the same way, so an overwrite takes off exactly what its save added.
+ * <p>
+ * Feed it from an {@code ObservableAccommodationRepository}, which supplies the replaced
+ * room. Figures are exact whenever saves are quiescent; while saves are in flight a read may
+ * see a count and a sum from slightly different moments.
+ */
+public final class EstateAggregates implements RoomChangeListener {
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final int scale;
+    private final LongAdder[] counts = new LongAdder[TYPES.length];
+    private final LongAdder[] rentMinor = new LongAdder[TYPES.length];
+
+    public EstateAggregates() {
+        this(ColumnarEstate.DEFAULT_SCALE);
+    }
+
+    /** @param scale decimal places kept per price; finer prices are rounded half-even */
+    public EstateAggregates(int scale) {
+        if (scale < 0 || scale > 18) {
+            throw new IllegalArgumentException("scale must be within 0..18: " + scale);
+        }
+        this.scale = scale;
+        for (int t = 0; t < TYPES.length; t++) {
+            counts[t] = new LongAdder();
+            rentMinor[t] = new LongAdder();
+        }
+    }
+
+    /** One-off figures for every room currently in {@code repository}. */
+    public static EstateAggregates of(AccommodationRepository repository) {
+        EstateAggregates aggregates = new EstateAggregates();
+        repository.streamAll().forEach(room -> aggregates.onSave(null, room));
+        return aggregates;
+    }
+
+    /** Both prices are converted before any figure changes, and conversion never throws. */
+    @Override public void onSave(Accommodation previous, Accommodation current) {
+        long price = MinorUnits.toMinorRounded(current.getPricePerMonth(), scale);
+        long previousPrice = previous == null ? 0 : MinorUnits.toMinorRounded(previous.getPricePerMonth(), scale);
+        if (previous != null) {
+            int t = previous.getType().ordinal();
+            counts[t].decrement();
+            rentMinor[t].add(-previousPrice);
+        }
+        int t = current.getType().ordinal();
+        counts[t].increment();
+        rentMinor[t].add(price);
+    }
+
+    public long count(RoomType type) {
+        return counts[type.ordinal()].sum();
+    }
+
+    public long count() {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    public Map<RoomType, Long> countByType() {
+        Map<RoomType, Long> byType = new EnumMap<>(RoomType.class);
+        for (RoomType type : TYPES) {
+            byType.put(type, count(type));
+        }
+        return byType;
+    }
+
+    /** Monthly rent of every room of {@code type}. */
+    public BigDecimal rentRoll(RoomType type) {
+        return MinorUnits.toDecimal(rentMinor[type.ordinal()].sum(), scale);
+    }
+
+    /** Monthly rent of the whole estate. */
+    public BigDecimal rentRoll() {
+        long total = 0;
+        for (LongAdder rent : rentMinor) {
+            total += rent.sum();
+        }
+        return MinorUnits.toDecimal(total, scale);
+    }
+
+    /** Mean monthly price of {@code type} at this instance's scale, empty if there are no such rooms. */
+    public Optional<BigDecimal> averagePrice(RoomType type, RoundingMode mode) {
+        int t = type.ordinal();
+        long count = counts[t].sum();
+        if (count <= 0) return Optional.empty();
+        return Optional.of(MinorUnits.toDecimal(MinorUnits.divide(rentMinor[t].sum(), count, mode), scale));
+    }
+
+    /** Mean monthly price over the whole estate, empty if it has no rooms. */
+    public Optional<BigDecimal> averagePrice(RoundingMode mode) {
+        long count = count();
+        if (count <= 0) return Optional.empty();
+        return Optional.of(rentRoll().divide(BigDecimal.valueOf(count), scale, mode));
+    }
+}
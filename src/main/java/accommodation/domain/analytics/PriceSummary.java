@@ -0,0 +1,18 @@
+package accommodation.domain.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import accommodation.domain.model.RoomType;
+
+/**
+ * Count and price statistics for one room type, or for the whole estate when {@code type}
+ * is {@code null}. {@code min} and {@code max} are {@code null} when {@code count} is 0.
+ */
+public record PriceSummary(RoomType type, long count, BigDecimal sum, BigDecimal min, BigDecimal max) {
+
+    /** Mean price at the scale of {@code sum}, or {@code null} for no rooms. */
+    public BigDecimal average(RoundingMode mode) {
+        return count == 0 ? null : sum.divide(BigDecimal.valueOf(count), sum.scale(), mode);
+    }
+}
@@ -0,0 +1,249 @@
+package accommodation.domain.availability;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Week-by-week booking calendar for every room, laid out as bitsets.
+ * <p>
+ * Each room gets a dense slot index when it is added. For every week of the horizon there is
+ * one bitset over slots with a bit set for each room booked that week, and for every
+ * {@link RoomType} one mask with a bit set for each room of that type. "Which rooms of type X
+ * are free for every week from A to B" is then the type mask AND-NOT each week's bitset,
+ * one word at a time: for 50,000 rooms and a 52-week year that is at most ~40,000 long
+ * operations, with no per-booking objects to walk.
+ * <p>
+ * Bookings and new rooms take the write lock; queries use an optimistic read and only fall
+ * back to the read lock if a write raced them.
+ */
+public final class AvailabilityIndex {
+    private static final int INITIAL_SLOTS = 1 << 10;
+
+    private final int weeks;
+    private final StampedLock lock = new StampedLock();
+
+    private final Map<Integer, Integer> slotOf = new HashMap<>();
+    private final EnumMap<RoomType, long[]> typeMasks = new EnumMap<>(RoomType.class);
+    private int[] numberOf = new int[INITIAL_SLOTS];
+    private long[][] booked;
+    private int slotCount;
+
+    /** @param weeks length of the booking horizon; weeks are numbered {@code 0..weeks-1} */
+    public AvailabilityIndex(int weeks) {
+        if (weeks <= 0) throw new IllegalArgumentException("weeks must be positive");
+        this.weeks = weeks;
+        this.booked = new long[weeks][INITIAL_SLOTS >>> 6];
+        for (RoomType type : RoomType.values()) {
+            typeMasks.put(type, new long[INITIAL_SLOTS >>> 6]);
+        }
+    }
+
+    /** Index with every room currently in {@code repository}, all vacant. */
+    public static AvailabilityIndex of(AccommodationRepository repository, int weeks) {
+        AvailabilityIndex index = new AvailabilityIndex(weeks);
+        repository.streamAll().forEach(index::addRoom);
+        return index;
+    }
+
+    /** Adds a room, or moves an existing room to its new type. Its bookings are kept. */
+    public void addRoom(Accommodation accommodation) {
+        long stamp = lock.writeLock();
+        try {
+            Integer slot = slotOf.get(accommodation.getNumber());
+            if (slot == null) {
+                slot = slotCount++;
+                ensureSlots(slotCount);
+                slotOf.put(accommodation.getNumber(), slot);
+                numberOf[slot] = accommodation.getNumber();
+            }
+            int word = slot >>> 6;
+            long bit = 1L << slot;
+            for (long[] mask : typeMasks.values()) {
+                mask[word] &= ~bit;
+            }
+            typeMasks.get(accommodation.getType())[word] |= bit;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Books {@code roomNumber} for weeks {@code fromWeek..toWeek} inclusive.
+     *
+     * @return {@code false}, booking nothing, if any of those weeks is already taken
+     */
+    public boolean book(int roomNumber, int fromWeek, int toWeek) {
+        checkRange(fromWeek, toWeek);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slot(roomNumber);
+            int word = slot >>> 6;
+            long bit = 1L << slot;
+            for (int w = fromWeek; w <= toWeek; w++) {
+                if ((booked[w][word] & bit) != 0) return false;
+            }
+            for (int w = fromWeek; w <= toWeek; w++) {
+                booked[w][word] |= bit;
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Frees {@code roomNumber} for weeks {@code fromWeek..toWeek} inclusive. */
+    public void release(int roomNumber, int fromWeek, int toWeek) {
+        checkRange(fromWeek, toWeek);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slot(roomNumber);
+            for (int w = fromWeek; w <= toWeek; w++) {
+                booked[w][slot >>> 6] &= ~(1L << slot);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean isFree(int roomNumber, int fromWeek, int toWeek) {
+        checkRange(fromWeek, toWeek);
+        long stamp = lock.readLock();
+        try {
+            int slot = slot(roomNumber);
+            for (int w = fromWeek; w <= toWeek; w++) {
+                if ((booked[w][slot >>> 6] & (1L << slot)) != 0) return false;
+            }
+            return true;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Numbers of the rooms of {@code type} free for every week in the range, in ascending order. */
+    public int[] freeRooms(RoomType type, int fromWeek, int toWeek) {
+        checkRange(fromWeek, toWeek);
+        long stamp = lock.tryOptimisticRead();
+        int[] rooms;
+        try {
+            rooms = collect(freeMask(type, fromWeek, toWeek));
+        } catch (RuntimeException raced) {
+            rooms = null;   // arrays torn by a concurrent ensureSlots(); validate() fails below
+        }
+        if (rooms == null || !lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                rooms = collect(freeMask(type, fromWeek, toWeek));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        Arrays.sort(rooms);
+        return rooms;
+    }
+
+    /** Same as {@code freeRooms(type, fromWeek, toWeek).length}, without materializing the rooms. */
+    public int countFree(RoomType type, int fromWeek, int toWeek) {
+        checkRange(fromWeek, toWeek);
+        long stamp = lock.tryOptimisticRead();
+        int count;
+        try {
+            count = popCount(freeMask(type, fromWeek, toWeek));
+        } catch (RuntimeException raced) {
+            count = -1;
+        }
+        if (count < 0 || !lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                count = popCount(freeMask(type, fromWeek, toWeek));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return count;
+    }
+
+    public int weeks() {
+        return weeks;
+    }
+
+    public int roomCount() {
+        long stamp = lock.readLock();
+        try {
+            return slotCount;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /*
+     * Under an optimistic read the plain fields give no happens-before edge with a concurrent
+     * ensureSlots(): the arrays may be swapped mid-scan, or seen half-copied with a null
+     * week. Fields are read once and lengths taken from the copies actually used, and callers
+     * treat any exception as a failed validation and retry under the read lock.
+     */
+    private long[] freeMask(RoomType type, int fromWeek, int toWeek) {
+        long[] mask = typeMasks.get(type);
+        long[][] weekBits = booked;
+        long[] free = Arrays.copyOf(mask, Math.min(mask.length, weekBits[0].length));
+        for (int w = fromWeek; w <= toWeek; w++) {
+            long[] bits = weekBits[w];
+            for (int i = 0; i < free.length; i++) {
+                free[i] &= ~bits[i];
+            }
+        }
+        return free;
+    }
+
+    private int[] collect(long[] free) {
+        int[] numbers = numberOf;
+        int[] rooms = new int[popCount(free)];
+        int found = 0;
+        for (int i = 0; i < free.length && found < rooms.length; i++) {
+            for (long word = free[i]; word != 0; word &= word - 1) {
+                int slot = (i << 6) + Long.numberOfTrailingZeros(word);
+                if (slot >= numbers.length) return Arrays.copyOf(rooms, found);
+                rooms[found++] = numbers[slot];
+            }
+        }
+        return found == rooms.length ? rooms : Arrays.copyOf(rooms, found);
+    }
+
+    private static int popCount(long[] bits) {
+        int count = 0;
+        for (long word : bits) count += Long.bitCount(word);
+        return count;
+    }
+
+    /** Caller holds the write lock. */
+    private void ensureSlots(int needed) {
+        if (needed <= numberOf.length) return;
+        int capacity = numberOf.length * 2;
+        numberOf = Arrays.copyOf(numberOf, capacity);
+        long[][] grown = new long[weeks][];
+        for (int w = 0; w < weeks; w++) {
+            grown[w] = Arrays.copyOf(booked[w], capacity >>> 6);
+        }
+        booked = grown;
+        typeMasks.replaceAll((type, mask) -> Arrays.copyOf(mask, capacity >>> 6));
+    }
+
+    private int slot(int roomNumber) {
+        Integer slot = slotOf.get(roomNumber);
+        if (slot == null) throw new IllegalArgumentException("unknown room " + roomNumber);
+        return slot;
+    }
+
+    private void checkRange(int fromWeek, int toWeek) {
+        if (fromWeek < 0 || toWeek >= weeks || fromWeek > toWeek) {
+            throw new IllegalArgumentException("week range [" + fromWeek + ", " + toWeek
+                    + "] outside [0, " + (weeks - 1) + "]");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package accommodation.domain.builder;
 import java.math.BigDecimal;
 
 import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
 import accommodation.domain.model.RoomType;
 
 
@@ -11,6 +12,12 @@ abstract class AbstractAccommodationBuilder implements AccommodationBuilder {
     protected RoomType type;
     protected BigDecimal price;
 
+    /** Starts from a canonical card, so untouched defaults are shared rather than copied. */
+    protected AbstractAccommodationBuilder(RateCard defaults) {
+        this.type = defaults.getType();
+        this.price = defaults.getPricePerMonth();
+    }
+
     @Override public AccommodationBuilder number(int number) {
         this.number = number; return this;
     }
@@ -24,6 +31,6 @@ abstract class AbstractAccommodationBuilder implements AccommodationBuilder {
     }
 
     @Override public Accommodation build() {
-        return new Accommodation(number, type, price);
+        return new Accommodation(number, RateCard.of(type, price));
     }
 }
\ No newline at end of file
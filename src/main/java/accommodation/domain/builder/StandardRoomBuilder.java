@@ -1,13 +1,10 @@
 package accommodation.domain.builder;
 
-import java.math.BigDecimal;
-
-import accommodation.domain.model.RoomType;
+import accommodation.domain.model.RateCard;
 
 
 public final class StandardRoomBuilder extends AbstractAccommodationBuilder {
     public StandardRoomBuilder() {
-        this.type = RoomType.STANDARD;
-        this.price = BigDecimal.valueOf(700);
+        super(RateCard.STANDARD);
     }
 }
\ No newline at end of file
@@ -1,13 +1,10 @@
 package accommodation.domain.builder;
 
-import java.math.BigDecimal;
-
-import accommodation.domain.model.RoomType;
+import accommodation.domain.model.RateCard;
 
 
 public final class SuperiorRoomBuilder extends AbstractAccommodationBuilder {
     public SuperiorRoomBuilder() {
-        this.type = RoomType.SUPERIOR;
-        this.price = BigDecimal.valueOf(950);
+        super(RateCard.SUPERIOR);
     }
 }
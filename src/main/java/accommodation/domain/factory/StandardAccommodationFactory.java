@@ -1,11 +1,38 @@
 package accommodation.domain.factory;
 
-import accommodation.domain.builder.StandardRoomBuilder;
 import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.pricing.TariffBook;
 
 
+/**
+ * Creates standard rooms. {@link #create} allocates only the {@link Accommodation}: a default
+ * {@code StandardRoomBuilder} always ends up at the canonical card, so the factory skips the
+ * builder and hands that card straight to the room. Custom rooms still go through the builder.
+ */
 public final class StandardAccommodationFactory implements AccommodationFactory {
+    private final RateCard card;
+    private final TariffBook tariff; // null: always the canonical card
+
+    public StandardAccommodationFactory() {
+        this(RateCard.STANDARD, null);
+    }
+
+    private StandardAccommodationFactory(RateCard card, TariffBook tariff) {
+        this.card = card;
+        this.tariff = tariff;
+    }
+
+    /**
+     * Rooms get the tariff's standard card current at creation. Later reprices reach them
+     * through {@link TariffBook#applyTo}.
+     */
+    public static StandardAccommodationFactory tariffed(TariffBook tariff) {
+        return new StandardAccommodationFactory(null, tariff);
+    }
+
     @Override public Accommodation create(int roomNumber) {
-        return new StandardRoomBuilder().number(roomNumber).build();
+        return new Accommodation(roomNumber, tariff == null ? card : tariff.rateFor(RoomType.STANDARD));
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,38 @@
 package accommodation.domain.factory;
 
-import accommodation.domain.builder.SuperiorRoomBuilder;
 import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.pricing.TariffBook;
 
 
+/**
+ * Creates superior rooms. {@link #create} allocates only the {@link Accommodation}: a default
+ * {@code SuperiorRoomBuilder} always ends up at the canonical card, so the factory skips the
+ * builder and hands that card straight to the room. Custom rooms still go through the builder.
+ */
 public final class SuperiorAccommodationFactory implements AccommodationFactory {
+    private final RateCard card;
+    private final TariffBook tariff; // null: always the canonical card
+
+    public SuperiorAccommodationFactory() {
+        this(RateCard.SUPERIOR, null);
+    }
+
+    private SuperiorAccommodationFactory(RateCard card, TariffBook tariff) {
+        this.card = card;
+        this.tariff = tariff;
+    }
+
+    /**
+     * Rooms get the tariff's superior card current at creation. Later reprices reach them
+     * through {@link TariffBook#applyTo}.
+     */
+    public static SuperiorAccommodationFactory tariffed(TariffBook tariff) {
+        return new SuperiorAccommodationFactory(null, tariff);
+    }
+
     @Override public Accommodation create(int roomNumber) {
-        return new SuperiorRoomBuilder().number(roomNumber).build();
+        return new Accommodation(roomNumber, tariff == null ? card : tariff.rateFor(RoomType.SUPERIOR));
     }
 }
@@ -0,0 +1,86 @@
+package accommodation.domain.factory;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Mixed estate: delegates each room number to one of several factories in fixed proportions.
+ * <p>
+ * The shares are laid out once as a smooth weighted round-robin cycle, so
+ * {@code of(share(standard, 3), share(superior, 1))} makes every fourth room superior and
+ * interleaves types instead of producing long runs. The choice depends only on the room
+ * number, so generating a range in parallel gives the same estate as a sequential loop.
+ */
+public final class TypePlan implements AccommodationFactory {
+    private static final int MAX_CYCLE = 1 << 16;
+
+    private final AccommodationFactory[] cycle;
+
+    private TypePlan(AccommodationFactory[] cycle) {
+        this.cycle = cycle;
+    }
+
+    public static Share share(AccommodationFactory factory, int weight) {
+        return new Share(factory, weight);
+    }
+
+    public static TypePlan of(Share... shares) {
+        if (shares.length == 0) {
+            throw new IllegalArgumentException("a type plan needs at least one share");
+        }
+        int divisor = 0;
+        for (Share share : shares) {
+            divisor = gcd(divisor, share.weight());
+        }
+        int[] weights = new int[shares.length];
+        long total = 0;
+        for (int i = 0; i < shares.length; i++) {
+            weights[i] = shares[i].weight() / divisor;
+            total += weights[i];
+        }
+        if (total > MAX_CYCLE) {
+            throw new IllegalArgumentException("reduced weights add up to " + total + ", more than " + MAX_CYCLE);
+        }
+
+        AccommodationFactory[] cycle = new AccommodationFactory[(int) total];
+        int[] current = new int[shares.length];
+        for (int slot = 0; slot < cycle.length; slot++) {
+            int best = 0;
+            for (int i = 0; i < shares.length; i++) {
+                current[i] += weights[i];
+                if (current[i] > current[best]) best = i;
+            }
+            current[best] -= (int) total;
+            cycle[slot] = shares[best].factory();
+        }
+        return new TypePlan(cycle);
+    }
+
+    @Override public Accommodation create(int roomNumber) {
+        return cycle[Math.floorMod(roomNumber, cycle.length)].create(roomNumber);
+    }
+
+    /** Number of rooms after which the type pattern repeats. */
+    public int cycleLength() {
+        return cycle.length;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    public record Share(AccommodationFactory factory, int weight) {
+        public Share {
+            if (factory == null) {
+                throw new IllegalArgumentException("factory must not be null");
+            }
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight must be positive: " + weight);
+            }
+        }
+    }
+}
@@ -6,38 +6,42 @@ import java.util.Objects;
 
 public final class Accommodation {
     private final int number;
-    private final RoomType type;
-    private final BigDecimal pricePerMonth;
+    private final RateCard rate;
 
     public Accommodation(int number, RoomType type, BigDecimal pricePerMonth) {
+        this(number, RateCard.of(Objects.requireNonNull(type), Objects.requireNonNull(pricePerMonth)));
+    }
+
+    /** Flyweight form: rooms built from the same card share its type and price objects. */
+    public Accommodation(int number, RateCard rate) {
         if (number <= 0) {
             throw new IllegalArgumentException("room number must be positive");
         }
         this.number = number;
-        this.type = Objects.requireNonNull(type);
-        this.pricePerMonth = Objects.requireNonNull(pricePerMonth);
+        this.rate = Objects.requireNonNull(rate);
     }
 
     public int getNumber()               { return number; }
-    public RoomType getType()            { return type; }
-    public BigDecimal getPricePerMonth() { return pricePerMonth; }
+    public RoomType getType()            { return rate.getType(); }
+    public BigDecimal getPricePerMonth() { return rate.getPricePerMonth(); }
+    public RateCard getRateCard()        { return rate; }
 
     @Override public String toString() {
         return "Accommodation{" +
                 "number=" + number +
-                ", type=" + type +
-                ", price=" + pricePerMonth +
+                ", type=" + getType() +
+                ", price=" + getPricePerMonth() +
                 '}';
     }
 
     @Override public boolean equals(Object o) {
         if (this == o)  return true;
         if (!(o instanceof Accommodation that)) return false;
-        return number == that.number && type == that.type &&
-                pricePerMonth.compareTo(that.pricePerMonth) == 0;
+        return number == that.number && getType() == that.getType() &&
+                getPricePerMonth().compareTo(that.getPricePerMonth()) == 0;
     }
 
     @Override public int hashCode() {
-        return Objects.hash(number, type, pricePerMonth);
+        return Objects.hash(number, getType(), getPricePerMonth());
     }
 }
@@ -0,0 +1,53 @@
+package accommodation.domain.model;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable pairing of a {@link RoomType} with its monthly price.
+ * <p>
+ * Rooms on the standard tariff all share the canonical card for their type (and so one
+ * {@link BigDecimal} instance), instead of each carrying its own copy of the price.
+ */
+public final class RateCard {
+    public static final RateCard STANDARD = new RateCard(RoomType.STANDARD, BigDecimal.valueOf(700));
+    public static final RateCard SUPERIOR = new RateCard(RoomType.SUPERIOR, BigDecimal.valueOf(950));
+
+    private static final Map<RoomType, RateCard> CANONICAL = new EnumMap<>(Map.of(
+            RoomType.STANDARD, STANDARD,
+            RoomType.SUPERIOR, SUPERIOR));
+
+    private final RoomType type;
+    private final BigDecimal pricePerMonth;
+
+    private RateCard(RoomType type, BigDecimal pricePerMonth) {
+        this.type = Objects.requireNonNull(type);
+        this.pricePerMonth = Objects.requireNonNull(pricePerMonth);
+    }
+
+    /** The shared default card for {@code type}. */
+    public static RateCard standardFor(RoomType type) {
+        return CANONICAL.get(Objects.requireNonNull(type));
+    }
+
+    /**
+     * Card for {@code type} at {@code pricePerMonth}. Returns the canonical instance when the
+     * price equals the default, scale included, so {@code 700.00} keeps its own card.
+     */
+    public static RateCard of(RoomType type, BigDecimal pricePerMonth) {
+        RateCard canonical = standardFor(type);
+        if (canonical.pricePerMonth.equals(Objects.requireNonNull(pricePerMonth))) {
+            return canonical;
+        }
+        return new RateCard(type, pricePerMonth);
+    }
+
+    public RoomType getType()            { return type; }
+    public BigDecimal getPricePerMonth() { return pricePerMonth; }
+
+    @Override public String toString() {
+        return "RateCard{" + type + " @ " + pricePerMonth + '}';
+    }
+}
@@ -0,0 +1,11 @@
+package accommodation.domain.occupancy;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param assignments applicant id to the room number they now occupy
+ * @param unallocated applicants for whom no room of their type was left
+ */
+public record AllocationResult(Map<String, Integer> assignments, List<Applicant> unallocated) {
+}
@@ -0,0 +1,13 @@
+package accommodation.domain.occupancy;
+
+import java.util.Objects;
+
+import accommodation.domain.model.RoomType;
+
+/** A student waiting for a room of the given type. */
+public record Applicant(String id, RoomType preference) {
+    public Applicant {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(preference);
+    }
+}
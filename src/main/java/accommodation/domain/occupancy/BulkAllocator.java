@@ -0,0 +1,89 @@
+package accommodation.domain.occupancy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Assigns a batch of applicants to vacant rooms of their preferred type.
+ * <p>
+ * Candidate rooms per type are taken from the repository's type index once per batch;
+ * applicants are then processed in parallel, each claiming the next candidate through a
+ * shared atomic cursor and securing it with a hold + confirm on the {@link OccupancyLedger}.
+ * A candidate that loses its CAS (because another allocator, or a manual hold, took it) is
+ * skipped and the applicant moves on to the next one.
+ * <p>
+ * Applicant ids key both the ledger holds and the result, so a batch with a repeated id is
+ * rejected before any room is claimed.
+ */
+public final class BulkAllocator {
+    private static final Duration CLAIM_HOLD = Duration.ofSeconds(30);
+
+    private final AccommodationRepository repository;
+    private final OccupancyLedger ledger;
+
+    public BulkAllocator(AccommodationRepository repository, OccupancyLedger ledger) {
+        this.repository = repository;
+        this.ledger = ledger;
+    }
+
+    public AllocationResult allocate(Collection<Applicant> applicants) {
+        Set<String> ids = new HashSet<>(applicants.size() * 2);
+        for (Applicant applicant : applicants) {
+            if (!ids.add(applicant.id())) {
+                throw new IllegalArgumentException("duplicate applicant id: " + applicant.id());
+            }
+        }
+
+        Map<RoomType, Candidates> candidates = new EnumMap<>(RoomType.class);
+        for (RoomType type : RoomType.values()) {
+            candidates.put(type, new Candidates(repository.findByType(type)));
+        }
+
+        Map<String, Integer> assignments = new ConcurrentHashMap<>();
+        List<Applicant> unallocated = Collections.synchronizedList(new ArrayList<>());
+        applicants.parallelStream().forEach(applicant -> {
+            int room = claim(applicant, candidates.get(applicant.preference()));
+            if (room > 0) {
+                assignments.put(applicant.id(), room);
+            } else {
+                unallocated.add(applicant);
+            }
+        });
+        return new AllocationResult(assignments, List.copyOf(unallocated));
+    }
+
+    /** @return the room number secured for the applicant, or 0 if the type is exhausted */
+    private int claim(Applicant applicant, Candidates candidates) {
+        for (int i = candidates.cursor.getAndIncrement(); i < candidates.rooms.length;
+             i = candidates.cursor.getAndIncrement()) {
+            int room = candidates.rooms[i];
+            if (ledger.hold(room, applicant.id(), CLAIM_HOLD)) {
+                if (ledger.confirm(room, applicant.id())) return room;
+                ledger.release(room, applicant.id());
+            }
+        }
+        return 0;
+    }
+
+    private static final class Candidates {
+        final int[] rooms;
+        final AtomicInteger cursor = new AtomicInteger();
+
+        Candidates(Collection<Accommodation> rooms) {
+            this.rooms = rooms.stream().mapToInt(Accommodation::getNumber).sorted().toArray();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package accommodation.domain.occupancy;
+
+/**
+ * Immutable reservation state of one room. A new instance is swapped in on every
+ * transition, so a single compare-and-set publishes state, holder and expiry together.
+ *
+ * @param holdExpiresAt clock reading after which a {@code HELD} room counts as vacant again
+ */
+record Occupancy(OccupancyState state, String applicantId, long holdExpiresAt) {
+    static final Occupancy VACANT = new Occupancy(OccupancyState.VACANT, null, 0L);
+
+    static Occupancy held(String applicantId, long expiresAt) {
+        return new Occupancy(OccupancyState.HELD, applicantId, expiresAt);
+    }
+
+    static Occupancy occupied(String applicantId) {
+        return new Occupancy(OccupancyState.OCCUPIED, applicantId, 0L);
+    }
+
+    /** State as seen at {@code now}: lapsed holds read as vacant. */
+    OccupancyState stateAt(long now) {
+        if (state == OccupancyState.HELD && now - holdExpiresAt >= 0) return OccupancyState.VACANT;
+        return state;
+    }
+
+    boolean heldBy(String applicant, long now) {
+        return stateAt(now) == OccupancyState.HELD && applicantId.equals(applicant);
+    }
+}
@@ -0,0 +1,97 @@
+package accommodation.domain.occupancy;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Per-room reservation state (vacant / held / occupied) for rooms in a repository.
+ * <p>
+ * Each room has its own {@link AtomicReference} and every transition is a compare-and-set
+ * on it, so reservations on different rooms never contend and there is no global lock.
+ * Holds expire on their own: a hold past its deadline is simply treated as vacant by the
+ * next reader or writer, so no sweeper thread is needed.
+ */
+public final class OccupancyLedger {
+    private final AccommodationRepository repository;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<Integer, AtomicReference<Occupancy>> rooms = new ConcurrentHashMap<>();
+
+    public OccupancyLedger(AccommodationRepository repository) {
+        this(repository, System::nanoTime);
+    }
+
+    /** @param clock monotonic nanosecond clock; injectable so tests can expire holds */
+    public OccupancyLedger(AccommodationRepository repository, LongSupplier clock) {
+        this.repository = repository;
+        this.clock = clock;
+    }
+
+    /**
+     * Places a time-boxed hold for {@code applicantId}. Holding again before expiry
+     * extends the applicant's own hold.
+     *
+     * @return {@code false} if the room is held by someone else or occupied
+     */
+    public boolean hold(int roomNumber, String applicantId, Duration ttl) {
+        Objects.requireNonNull(applicantId);
+        AtomicReference<Occupancy> slot = slot(roomNumber);
+        while (true) {
+            Occupancy current = slot.get();
+            long now = clock.getAsLong();
+            boolean free = current.stateAt(now) == OccupancyState.VACANT || current.heldBy(applicantId, now);
+            if (!free) return false;
+            if (slot.compareAndSet(current, Occupancy.held(applicantId, now + ttl.toNanos()))) return true;
+        }
+    }
+
+    /** Turns the applicant's unexpired hold into an occupancy. */
+    public boolean confirm(int roomNumber, String applicantId) {
+        AtomicReference<Occupancy> slot = slot(roomNumber);
+        while (true) {
+            Occupancy current = slot.get();
+            if (!current.heldBy(applicantId, clock.getAsLong())) return false;
+            if (slot.compareAndSet(current, Occupancy.occupied(applicantId))) return true;
+        }
+    }
+
+    /** Releases a hold or occupancy belonging to {@code applicantId}. */
+    public boolean release(int roomNumber, String applicantId) {
+        AtomicReference<Occupancy> slot = slot(roomNumber);
+        while (true) {
+            Occupancy current = slot.get();
+            OccupancyState state = current.stateAt(clock.getAsLong());
+            if (state == OccupancyState.VACANT || !current.applicantId().equals(applicantId)) return false;
+            if (slot.compareAndSet(current, Occupancy.VACANT)) return true;
+        }
+    }
+
+    public OccupancyState stateOf(int roomNumber) {
+        AtomicReference<Occupancy> slot = rooms.get(roomNumber);
+        return slot == null ? OccupancyState.VACANT : slot.get().stateAt(clock.getAsLong());
+    }
+
+    /** Applicant currently holding or occupying the room. */
+    public Optional<String> occupantOf(int roomNumber) {
+        AtomicReference<Occupancy> slot = rooms.get(roomNumber);
+        if (slot == null) return Optional.empty();
+        Occupancy current = slot.get();
+        return current.stateAt(clock.getAsLong()) == OccupancyState.VACANT
+                ? Optional.empty()
+                : Optional.of(current.applicantId());
+    }
+
+    private AtomicReference<Occupancy> slot(int roomNumber) {
+        AtomicReference<Occupancy> slot = rooms.get(roomNumber);
+        if (slot != null) return slot;
+        if (repository.findByNumber(roomNumber).isEmpty()) {
+            throw new IllegalArgumentException("unknown room " + roomNumber);
+        }
+        return rooms.computeIfAbsent(roomNumber, n -> new AtomicReference<>(Occupancy.VACANT));
+    }
+}
@@ -0,0 +1,5 @@
+package accommodation.domain.occupancy;
+
+public enum OccupancyState {
+    VACANT, HELD, OCCUPIED
+}
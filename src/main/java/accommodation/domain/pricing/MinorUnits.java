@@ -0,0 +1,87 @@
+package accommodation.domain.pricing;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between {@link BigDecimal} amounts and scaled {@code long} minor units
+ * (pence at scale 2), and integer division that rounds exactly like
+ * {@link BigDecimal#setScale(int, RoundingMode)}.
+ */
+public final class MinorUnits {
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private MinorUnits() {
+    }
+
+    /**
+     * {@code amount} in units of {@code 10^-scale}.
+     *
+     * @throws IllegalArgumentException if the amount has more decimals than {@code scale}
+     *                                  or does not fit in a {@code long}
+     */
+    public static long toMinor(BigDecimal amount, int scale) {
+        try {
+            return amount.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("amount " + amount + " is not representable at scale " + scale, e);
+        }
+    }
+
+    /**
+     * {@code amount} in units of {@code 10^-scale}, rounded half-even when it has more decimals.
+     * Amounts beyond the {@code long} range saturate at {@link Long#MIN_VALUE} or
+     * {@link Long#MAX_VALUE}. Never throws, for callers that must accept any stored price.
+     */
+    public static long toMinorRounded(BigDecimal amount, int scale) {
+        BigInteger unscaled = amount.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue();
+        if (unscaled.bitLength() <= 63) return unscaled.longValue();
+        return unscaled.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    public static BigDecimal toDecimal(long minor, int scale) {
+        return BigDecimal.valueOf(minor, scale);
+    }
+
+    public static long powerOfTen(int exponent) {
+        if (exponent < 0 || exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("10^" + exponent + " does not fit in a long");
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * {@code numerator / divisor} rounded with {@code mode}; {@code divisor} must be positive.
+     * Gives the same result as {@code BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(divisor), 0, mode)}.
+     *
+     * @throws ArithmeticException for {@link RoundingMode#UNNECESSARY} with a remainder
+     */
+    public static long divide(long numerator, long divisor, RoundingMode mode) {
+        long quotient = numerator / divisor;
+        long remainder = numerator % divisor;
+        if (remainder == 0) return quotient;
+
+        int sign = numerator < 0 ? -1 : 1;
+        long absRemainder = Math.abs(remainder);
+        int half = Long.compare(absRemainder, divisor - absRemainder);
+        boolean increment = switch (mode) {
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+            case DOWN -> false;
+            case UP -> true;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+        };
+        return increment ? quotient + sign : quotient;
+    }
+}
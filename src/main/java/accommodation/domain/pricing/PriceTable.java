@@ -0,0 +1,163 @@
+package accommodation.domain.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Column-wise copy of the estate's prices for bulk pricing runs.
+ * <p>
+ * Rooms are held in three parallel arrays sorted by room number: numbers, type ordinals and
+ * prices as {@code long} minor units at a fixed scale. Term costs and revenue projections
+ * are then plain {@code long} loops with no per-room objects, and uplifts round with
+ * {@link MinorUnits#divide} so every result equals what
+ * {@code price.multiply(factor).setScale(scale, mode)} would give.
+ * <p>
+ * A table is a working copy: build one per run, apply changes, then
+ * {@link #saveChanges(AccommodationRepository) save} them back. It is not thread-safe.
+ */
+public final class PriceTable {
+    public static final int DEFAULT_SCALE = 2;
+
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final int scale;
+    private final int[] numbers;
+    private final byte[] types;
+    private final long[] minor;
+    private final long[] original;
+
+    private PriceTable(int scale, int[] numbers, byte[] types, long[] minor) {
+        this.scale = scale;
+        this.numbers = numbers;
+        this.types = types;
+        this.minor = minor;
+        this.original = minor.clone();
+    }
+
+    public static PriceTable of(AccommodationRepository repository) {
+        return of(repository.findAll(), DEFAULT_SCALE);
+    }
+
+    /**
+     * @throws IllegalArgumentException if a price has more decimals than {@code scale}
+     */
+    public static PriceTable of(Collection<Accommodation> rooms, int scale) {
+        Accommodation[] sorted = rooms.toArray(new Accommodation[0]);
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.getNumber(), b.getNumber()));
+        int[] numbers = new int[sorted.length];
+        byte[] types = new byte[sorted.length];
+        long[] minor = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            numbers[i] = sorted[i].getNumber();
+            types[i] = (byte) sorted[i].getType().ordinal();
+            minor[i] = MinorUnits.toMinor(sorted[i].getPricePerMonth(), scale);
+        }
+        return new PriceTable(scale, numbers, types, minor);
+    }
+
+    public int size() {
+        return numbers.length;
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    public BigDecimal priceOf(int roomNumber) {
+        return MinorUnits.toDecimal(minor[indexOf(roomNumber)], scale);
+    }
+
+    /** Monthly price times {@code months}, in minor units. */
+    public long termCostMinor(int roomNumber, int months) {
+        return Math.multiplyExact(minor[indexOf(roomNumber)], (long) months);
+    }
+
+    public BigDecimal termCost(int roomNumber, int months) {
+        return MinorUnits.toDecimal(termCostMinor(roomNumber, months), scale);
+    }
+
+    /** Revenue over {@code months} if every room is let, in minor units. */
+    public long projectRevenueMinor(int months) {
+        long monthly = 0;
+        for (long price : minor) {
+            monthly = Math.addExact(monthly, price);
+        }
+        return Math.multiplyExact(monthly, (long) months);
+    }
+
+    /** Revenue over {@code months} if every room of {@code type} is let, in minor units. */
+    public long projectRevenueMinor(RoomType type, int months) {
+        byte ordinal = (byte) type.ordinal();
+        long monthly = 0;
+        for (int i = 0; i < minor.length; i++) {
+            if (types[i] == ordinal) monthly = Math.addExact(monthly, minor[i]);
+        }
+        return Math.multiplyExact(monthly, (long) months);
+    }
+
+    public BigDecimal projectRevenue(int months) {
+        return MinorUnits.toDecimal(projectRevenueMinor(months), scale);
+    }
+
+    /**
+     * Multiplies the price of every room of {@code type} by {@code factor}, rounding each
+     * result back to the table's scale with {@code mode}.
+     *
+     * @return number of rooms repriced
+     * @throws ArithmeticException if a result overflows, or {@code mode} is
+     *                             {@link RoundingMode#UNNECESSARY} and rounding is needed
+     */
+    public int multiply(RoomType type, BigDecimal factor, RoundingMode mode) {
+        Objects.requireNonNull(mode);
+        BigDecimal f = factor.scale() < 0 ? factor.setScale(0) : factor;
+        long unscaled = f.unscaledValue().longValueExact();
+        long divisor = MinorUnits.powerOfTen(f.scale());
+        byte ordinal = (byte) type.ordinal();
+        int repriced = 0;
+        for (int i = 0; i < minor.length; i++) {
+            if (types[i] != ordinal) continue;
+            minor[i] = MinorUnits.divide(Math.multiplyExact(minor[i], unscaled), divisor, mode);
+            repriced++;
+        }
+        return repriced;
+    }
+
+    /** Raises every price of {@code type} by {@code percent} (e.g. {@code 3.5}). */
+    public int uplift(RoomType type, BigDecimal percent, RoundingMode mode) {
+        return multiply(type, BigDecimal.ONE.add(percent.movePointLeft(2)), mode);
+    }
+
+    /**
+     * Saves every room whose price changed since the table was built, in one batch.
+     *
+     * @return number of rooms saved
+     */
+    public int saveChanges(AccommodationRepository repository) {
+        List<Accommodation> changed = new ArrayList<>();
+        for (int i = 0; i < minor.length; i++) {
+            if (minor[i] != original[i]) {
+                changed.add(new Accommodation(numbers[i], TYPES[types[i]], MinorUnits.toDecimal(minor[i], scale)));
+            }
+        }
+        if (!changed.isEmpty()) {
+            repository.saveAll(changed);
+            System.arraycopy(minor, 0, original, 0, minor.length);
+        }
+        return changed.size();
+    }
+
+    private int indexOf(int roomNumber) {
+        int i = Arrays.binarySearch(numbers, roomNumber);
+        if (i < 0) throw new IllegalArgumentException("unknown room " + roomNumber);
+        return i;
+    }
+}
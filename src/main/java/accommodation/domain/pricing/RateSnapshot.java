@@ -0,0 +1,65 @@
+package accommodation.domain.pricing;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
+import accommodation.domain.model.RoomType;
+
+/**
+ * One immutable version of a {@link TariffBook}: a {@link RateCard} per {@link RoomType}.
+ * Holding on to a snapshot pins its prices; later reprices publish new snapshots and never
+ * modify this one.
+ */
+public final class RateSnapshot {
+    private final TariffBook book;
+    private final long version;
+    private final EnumMap<RoomType, RateCard> cards;
+
+    RateSnapshot(TariffBook book, long version, EnumMap<RoomType, RateCard> cards) {
+        this.book = book;
+        this.version = version;
+        this.cards = cards;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public RateCard cardFor(RoomType type) {
+        return cards.get(type);
+    }
+
+    /**
+     * Price of {@code room} as of this version. Rooms on this snapshot's tariff are priced
+     * from the snapshot; rooms with any other rate keep their own price.
+     */
+    public BigDecimal priceOf(Accommodation room) {
+        return book.owns(room.getRateCard())
+                ? cards.get(room.getType()).getPricePerMonth()
+                : room.getPricePerMonth();
+    }
+
+    /**
+     * {@code room} moved onto this version's card, or {@code room} itself if it is already on
+     * it or not on this tariff at all.
+     */
+    public Accommodation reprice(Accommodation room) {
+        RateCard card = cards.get(room.getType());
+        if (room.getRateCard() == card || !book.owns(room.getRateCard())) return room;
+        return new Accommodation(room.getNumber(), card);
+    }
+
+    /** Copy with {@code prices} applied, as the next version. */
+    RateSnapshot with(Map<RoomType, BigDecimal> prices) {
+        EnumMap<RoomType, RateCard> next = new EnumMap<>(cards);
+        prices.forEach((type, price) -> next.put(type, RateCard.of(type, price)));
+        return new RateSnapshot(book, version + 1, next);
+    }
+
+    @Override public String toString() {
+        return "RateSnapshot{v" + version + ' ' + cards.values() + '}';
+    }
+}
@@ -0,0 +1,137 @@
+package accommodation.domain.pricing;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Versioned, copy-on-write rate cards for every {@link RoomType}.
+ * <p>
+ * The current {@link RateSnapshot} sits behind one {@link AtomicReference}, so publishing a
+ * reprice is a single compare-and-set and readers never block. Rooms stay immutable: a room
+ * created with {@link #rateFor(RoomType)} keeps the card it was created with until
+ * {@link #applyTo(AccommodationRepository)} saves a replacement on the current card. Going
+ * through {@code save} keeps price indexes, aggregates, change listeners and durable stores
+ * in step with the new prices. A reader that needs a consistent view across several rooms
+ * without re-saving takes {@link #current()} once and prices everything from it.
+ * <p>
+ * A room is on this tariff if its card was published by this book, which includes the
+ * canonical default cards every book starts from. The last {@code retainedVersions}
+ * snapshots can be looked up again by version number. Published cards are kept for the life
+ * of the book, one per type per reprice, so rooms on any earlier version are still
+ * recognised and moved by {@code applyTo}.
+ */
+public final class TariffBook {
+    public static final int DEFAULT_RETAINED_VERSIONS = 16;
+    private static final int APPLY_BATCH = 4_096;
+
+    private final AtomicReference<RateSnapshot> current;
+    private final ConcurrentSkipListMap<Long, RateSnapshot> history = new ConcurrentSkipListMap<>();
+    // never pruned: a room on a card dropped from history must still count as on this tariff
+    private final Set<RateCard> published = ConcurrentHashMap.newKeySet();
+    private final int retainedVersions;
+
+    /** Book at version 1 with the canonical {@link RateCard#standardFor(RoomType) default} cards. */
+    public TariffBook() {
+        this(DEFAULT_RETAINED_VERSIONS);
+    }
+
+    public TariffBook(int retainedVersions) {
+        if (retainedVersions <= 0) throw new IllegalArgumentException("must retain at least one version");
+        this.retainedVersions = retainedVersions;
+        EnumMap<RoomType, RateCard> cards = new EnumMap<>(RoomType.class);
+        for (RoomType type : RoomType.values()) {
+            cards.put(type, RateCard.standardFor(type));
+        }
+        published.addAll(cards.values());
+        RateSnapshot initial = new RateSnapshot(this, 1, cards);
+        this.current = new AtomicReference<>(initial);
+        history.put(initial.version(), initial);
+    }
+
+    /** The current card for {@code type}. */
+    public RateCard rateFor(RoomType type) {
+        return current.get().cardFor(Objects.requireNonNull(type));
+    }
+
+    public RateSnapshot current() {
+        return current.get();
+    }
+
+    /** A retained earlier (or the current) version. */
+    public Optional<RateSnapshot> version(long version) {
+        return Optional.ofNullable(history.get(version));
+    }
+
+    public RateSnapshot reprice(RoomType type, BigDecimal pricePerMonth) {
+        return reprice(Map.of(type, pricePerMonth));
+    }
+
+    /**
+     * Publishes a new version with {@code prices} applied, all types at once. Stored rooms
+     * are not touched; call {@link #applyTo} to move them onto the new cards.
+     *
+     * @return the snapshot that was published
+     */
+    public RateSnapshot reprice(Map<RoomType, BigDecimal> prices) {
+        prices.forEach((type, price) -> {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(price);
+        });
+        RateSnapshot published;
+        RateSnapshot previous;
+        do {
+            previous = current.get();
+            published = previous.with(prices);
+        } while (!current.compareAndSet(previous, published));
+
+        for (RoomType type : prices.keySet()) {
+            this.published.add(published.cardFor(type));
+        }
+        history.put(published.version(), published);
+        long oldest = published.version() - retainedVersions;
+        history.headMap(oldest, true).clear();
+        return published;
+    }
+
+    /**
+     * Moves every room of {@code repository} that is on this tariff but not on the current
+     * card for its type onto that card. Rooms are read a page of {@value #APPLY_BATCH} at a
+     * time and each is swapped with {@link AccommodationRepository#replace}, so a room saved
+     * concurrently keeps the newer save and is left for the next run.
+     *
+     * @return the number of rooms repriced
+     */
+    public long applyTo(AccommodationRepository repository) {
+        RateSnapshot snapshot = current.get();
+        long repriced = 0;
+        int after = 0;
+        List<Accommodation> page;
+        // Page instead of streaming: saving while a backend's stream is open is not safe everywhere.
+        do {
+            page = repository.findAll(after, APPLY_BATCH);
+            for (Accommodation room : page) {
+                Accommodation updated = snapshot.reprice(room);
+                if (updated != room && repository.replace(room, updated)) repriced++;
+            }
+            if (!page.isEmpty()) after = page.get(page.size() - 1).getNumber();
+        } while (page.size() == APPLY_BATCH);
+        return repriced;
+    }
+
+    boolean owns(RateCard card) {
+        return published.contains(card);
+    }
+}
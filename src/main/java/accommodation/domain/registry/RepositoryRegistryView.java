@@ -0,0 +1,82 @@
+package accommodation.domain.registry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Registry that stores nothing itself: registrations write through to the repository and
+ * lookups read through from it. With this view there is one copy of every room, so a lookup
+ * can never disagree with {@link AccommodationRepository#findAll()}.
+ */
+public final class RepositoryRegistryView implements RoomRegistry {
+    private final AccommodationRepository repository;
+
+    public RepositoryRegistryView(AccommodationRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override public void register(Accommodation accommodation) {
+        repository.save(accommodation);
+    }
+
+    @Override public Accommodation registerIfAbsent(Accommodation accommodation) {
+        return repository.saveIfAbsent(accommodation);
+    }
+
+    @Override public void registerAll(Collection<Accommodation> accommodations) {
+        repository.saveAll(accommodations);
+    }
+
+    @Override public Accommodation find(int roomNumber) {
+        return repository.findByNumber(roomNumber).orElse(null);
+    }
+
+    @Override public Map<Integer, Accommodation> all() {
+        return new AbstractMap<>() {
+            @Override public Accommodation get(Object key) {
+                return key instanceof Integer n ? find(n) : null;
+            }
+
+            @Override public boolean containsKey(Object key) {
+                return get(key) != null;
+            }
+
+            @Override public Set<Entry<Integer, Accommodation>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override public int size() {
+                        return RepositoryRegistryView.this.size();
+                    }
+
+                    @Override public Iterator<Entry<Integer, Accommodation>> iterator() {
+                        Iterator<Accommodation> rooms = repository.findAll().iterator();
+                        return new Iterator<>() {
+                            @Override public boolean hasNext() {
+                                return rooms.hasNext();
+                            }
+
+                            @Override public Entry<Integer, Accommodation> next() {
+                                Accommodation room = rooms.next();
+                                return new SimpleImmutableEntry<>(room.getNumber(), room);
+                            }
+                        };
+                    }
+                };
+            }
+        };
+    }
+
+    @Override public int size() {
+        return repository.size();
+    }
+
+    @Override public boolean isViewOf(AccommodationRepository repository) {
+        return this.repository == repository;
+    }
+}
@@ -0,0 +1,46 @@
+package accommodation.domain.registry;
+
+import java.util.Collection;
+import java.util.Map;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Lookup table of published rooms, keyed by room number.
+ * {@link accommodation.domain.singleton.HallRegistry} is the process-wide implementation;
+ * {@link ShardedHallRegistry} gives each campus its own partitioned instance, and
+ * {@link RepositoryRegistryView} keeps no copy at all.
+ */
+public interface RoomRegistry {
+
+    void register(Accommodation accommodation);
+
+    /** @return the registered room: {@code accommodation} if it was added, else the existing one */
+    Accommodation registerIfAbsent(Accommodation accommodation);
+
+    default void registerAll(Collection<Accommodation> accommodations) {
+        for (Accommodation accommodation : accommodations) {
+            register(accommodation);
+        }
+    }
+
+    /** @return the room, or {@code null} if none is registered under that number */
+    Accommodation find(int roomNumber);
+
+    /** Read-only view of every registered room. */
+    Map<Integer, Accommodation> all();
+
+    /** Number of registered rooms. The default sizes {@link #all()}; views override it. */
+    default int size() {
+        return all().size();
+    }
+
+    /**
+     * {@code true} if this registry is a read/write-through view of {@code repository}, in
+     * which case saving to the repository already publishes the room here.
+     */
+    default boolean isViewOf(AccommodationRepository repository) {
+        return false;
+    }
+}
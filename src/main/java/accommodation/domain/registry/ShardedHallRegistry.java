@@ -0,0 +1,198 @@
+package accommodation.domain.registry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Registry partitioned into independent shards, each with its own map and counters.
+ * <p>
+ * A room is routed by first mapping its number to a hall key ({@code hallOf}) and then the
+ * hall key to a shard, so all rooms of one hall land in the same shard. Unlike
+ * {@link accommodation.domain.singleton.HallRegistry} there is no static state: every
+ * instance is a separate tenant, and shards can be inspected or cleared one at a time.
+ */
+public final class ShardedHallRegistry implements RoomRegistry {
+    private final Shard[] shards;
+    private final IntUnaryOperator hallOf;
+
+    /**
+     * @param hallOf maps a room number to its hall (or any other grouping key)
+     */
+    public ShardedHallRegistry(int shardCount, IntUnaryOperator hallOf) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shard count must be positive");
+        }
+        this.hallOf = hallOf;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /** Halls are consecutive room-number ranges of {@code roomsPerHall} (e.g. 100: 100-199, 200-299). */
+    public static ShardedHallRegistry byRange(int shardCount, int roomsPerHall) {
+        if (roomsPerHall <= 0) {
+            throw new IllegalArgumentException("rooms per hall must be positive");
+        }
+        return new ShardedHallRegistry(shardCount, number -> number / roomsPerHall);
+    }
+
+    /** One shard per available processor, halls of 100 rooms. */
+    public static ShardedHallRegistry perCore() {
+        return byRange(Runtime.getRuntime().availableProcessors(), 100);
+    }
+
+    @Override public void register(Accommodation accommodation) {
+        Shard shard = shardFor(accommodation.getNumber());
+        shard.rooms.put(accommodation.getNumber(), accommodation);
+        shard.registrations.increment();
+    }
+
+    @Override public Accommodation registerIfAbsent(Accommodation accommodation) {
+        Shard shard = shardFor(accommodation.getNumber());
+        Accommodation existing = shard.rooms.putIfAbsent(accommodation.getNumber(), accommodation);
+        if (existing != null) return existing;
+        shard.registrations.increment();
+        return accommodation;
+    }
+
+    /** Groups the batch by shard so each shard receives a single {@code putAll}. */
+    @Override public void registerAll(Collection<Accommodation> accommodations) {
+        List<Map<Integer, Accommodation>> perShard = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) perShard.add(null);
+        for (Accommodation accommodation : accommodations) {
+            int index = shardIndex(accommodation.getNumber());
+            Map<Integer, Accommodation> batch = perShard.get(index);
+            if (batch == null) perShard.set(index, batch = new HashMap<>());
+            batch.put(accommodation.getNumber(), accommodation);
+        }
+        for (int i = 0; i < shards.length; i++) {
+            Map<Integer, Accommodation> batch = perShard.get(i);
+            if (batch == null) continue;
+            shards[i].rooms.putAll(batch);
+            shards[i].registrations.add(batch.size());
+        }
+    }
+
+    @Override public Accommodation find(int roomNumber) {
+        Shard shard = shardFor(roomNumber);
+        Accommodation found = shard.rooms.get(roomNumber);
+        shard.lookups.increment();
+        if (found != null) shard.hits.increment();
+        return found;
+    }
+
+    @Override public Map<Integer, Accommodation> all() {
+        return new AllRoomsView();
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /** Shard that owns {@code roomNumber}. */
+    public int shardIndex(int roomNumber) {
+        return Math.floorMod(hallOf.applyAsInt(roomNumber), shards.length);
+    }
+
+    public ShardStats stats(int shard) {
+        Shard s = shards[shard];
+        return new ShardStats(shard, s.rooms.size(), s.registrations.sum(), s.lookups.sum(), s.hits.sum());
+    }
+
+    public List<ShardStats> stats() {
+        List<ShardStats> all = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) all.add(stats(i));
+        return all;
+    }
+
+    /** Drops every room and counter of one shard, leaving the others untouched. */
+    public void clearShard(int shard) {
+        Shard s = shards[shard];
+        s.rooms.clear();
+        s.registrations.reset();
+        s.lookups.reset();
+        s.hits.reset();
+    }
+
+    public void clear() {
+        for (int i = 0; i < shards.length; i++) clearShard(i);
+    }
+
+    private Shard shardFor(int roomNumber) {
+        return shards[shardIndex(roomNumber)];
+    }
+
+    /** Point-in-time counters of one shard. */
+    public record ShardStats(int shard, int size, long registrations, long lookups, long hits) {
+        public double hitRatio() {
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    private static final class Shard {
+        final ConcurrentHashMap<Integer, Accommodation> rooms = new ConcurrentHashMap<>();
+        final LongAdder registrations = new LongAdder();
+        final LongAdder lookups = new LongAdder();
+        final LongAdder hits = new LongAdder();
+    }
+
+    /** Read-only, weakly consistent union of all shards; point lookups go to the owning shard. */
+    private final class AllRoomsView extends AbstractMap<Integer, Accommodation> {
+        @Override public Accommodation get(Object key) {
+            return key instanceof Integer n ? shardFor(n).rooms.get(n) : null;
+        }
+
+        @Override public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override public int size() {
+            int size = 0;
+            for (Shard shard : shards) size += shard.rooms.size();
+            return size;
+        }
+
+        @Override public Set<Entry<Integer, Accommodation>> entrySet() {
+            return new AbstractSet<>() {
+                @Override public int size() {
+                    return AllRoomsView.this.size();
+                }
+
+                @Override public Iterator<Entry<Integer, Accommodation>> iterator() {
+                    return new Iterator<>() {
+                        private int shard = 0;
+                        private Iterator<Entry<Integer, Accommodation>> current = Collections.emptyIterator();
+
+                        @Override public boolean hasNext() {
+                            while (!current.hasNext() && shard < shards.length) {
+                                current = shards[shard++].rooms.entrySet().iterator();
+                            }
+                            return current.hasNext();
+                        }
+
+                        @Override public Entry<Integer, Accommodation> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            Entry<Integer, Accommodation> e = current.next();
+                            return new SimpleImmutableEntry<>(e.getKey(), e.getValue());
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
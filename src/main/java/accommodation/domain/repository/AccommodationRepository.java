@@ -1,12 +1,136 @@
 package accommodation.domain.repository;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
 
 public interface AccommodationRepository {
     void save(Accommodation accommodation);
     Optional<Accommodation> findByNumber(int roomNumber);
     Collection<Accommodation> findAll();
-}
\ No newline at end of file
+
+    /**
+     * Atomically saves {@code accommodation} unless a room with the same number exists.
+     * <p>
+     * The default looks the number up and saves while holding this repository's monitor, so
+     * it is atomic against other {@code saveIfAbsent} calls but not against a concurrent
+     * {@link #save}. Concurrent implementations override it with a real atomic insert.
+     *
+     * @return the stored room: {@code accommodation} itself if it was saved, otherwise the
+     *         room that was already there (which is left untouched)
+     */
+    default Accommodation saveIfAbsent(Accommodation accommodation) {
+        synchronized (this) {
+            Optional<Accommodation> existing = findByNumber(accommodation.getNumber());
+            if (existing.isPresent()) return existing.get();
+            save(accommodation);
+            return accommodation;
+        }
+    }
+
+    /**
+     * Atomically replaces the stored room with {@code replacement}, but only while it is still
+     * equal to {@code expected} (the room the caller read). Like {@link #saveIfAbsent}, the
+     * default holds this repository's monitor; concurrent implementations override it.
+     *
+     * @return whether {@code replacement} was saved
+     * @throws IllegalArgumentException if the two rooms have different numbers
+     */
+    default boolean replace(Accommodation expected, Accommodation replacement) {
+        checkSameRoom(expected, replacement);
+        synchronized (this) {
+            Optional<Accommodation> current = findByNumber(expected.getNumber());
+            if (current.isEmpty() || !current.get().equals(expected)) return false;
+            save(replacement);
+            return true;
+        }
+    }
+
+    /** Shared argument check for {@link #replace} implementations. */
+    static void checkSameRoom(Accommodation expected, Accommodation replacement) {
+        if (expected.getNumber() != replacement.getNumber()) {
+            throw new IllegalArgumentException("cannot replace room " + expected.getNumber()
+                    + " with room " + replacement.getNumber());
+        }
+    }
+
+    /**
+     * Saves a batch of rooms. Implementations override this to size storage once for
+     * the whole batch instead of growing room by room.
+     */
+    default void saveAll(Collection<Accommodation> accommodations) {
+        for (Accommodation accommodation : accommodations) {
+            save(accommodation);
+        }
+    }
+
+    /** Number of stored rooms. The default copies findAll(); implementations keep a count. */
+    default int size() {
+        return findAll().size();
+    }
+
+    /** Rooms found for the given numbers, in request order; unknown numbers are skipped. */
+    default List<Accommodation> findAllByNumbers(int[] roomNumbers) {
+        List<Accommodation> found = new ArrayList<>(roomNumbers.length);
+        for (int roomNumber : roomNumbers) {
+            findByNumber(roomNumber).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /*
+     * Ordered, incremental access. The defaults sort a full copy of findAll(); ordered
+     * implementations override them to walk their storage lazily.
+     */
+
+    /**
+     * Keyset page: up to {@code limit} rooms numbered above {@code afterRoomNumber}, in
+     * room-number order. Pass the last number of one page to get the next; start from 0.
+     */
+    default List<Accommodation> findAll(int afterRoomNumber, int limit) {
+        if (limit < 0) throw new IllegalArgumentException("limit must not be negative");
+        return streamAll()
+                .filter(accommodation -> accommodation.getNumber() > afterRoomNumber)
+                .limit(limit)
+                .toList();
+    }
+
+    /** All rooms in room-number order. */
+    default Stream<Accommodation> streamAll() {
+        return findAll().stream()
+                .sorted(Comparator.comparingInt(Accommodation::getNumber));
+    }
+
+    /* Secondary queries. The defaults scan findAll(); indexed implementations override them. */
+
+    default Collection<Accommodation> findByType(RoomType type) {
+        List<Accommodation> found = new ArrayList<>();
+        for (Accommodation accommodation : findAll()) {
+            if (accommodation.getType() == type) found.add(accommodation);
+        }
+        return found;
+    }
+
+    default long countByType(RoomType type) {
+        return findByType(type).size();
+    }
+
+    /** Rooms priced in {@code [minInclusive, maxInclusive]}, compared with {@link BigDecimal#compareTo}. */
+    default List<Accommodation> findByPriceBetween(BigDecimal minInclusive, BigDecimal maxInclusive) {
+        List<Accommodation> found = new ArrayList<>();
+        for (Accommodation accommodation : findAll()) {
+            BigDecimal price = accommodation.getPricePerMonth();
+            if (price.compareTo(minInclusive) >= 0 && price.compareTo(maxInclusive) <= 0) {
+                found.add(accommodation);
+            }
+        }
+        return found;
+    }
+}
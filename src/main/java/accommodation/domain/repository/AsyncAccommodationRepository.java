@@ -0,0 +1,37 @@
+package accommodation.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Non-blocking counterpart of {@link AccommodationRepository}. Implementations backed by
+ * asynchronous I/O complete the futures from their own I/O threads; no caller thread is
+ * parked while a request is outstanding.
+ */
+public interface AsyncAccommodationRepository {
+
+    CompletableFuture<Void> saveAsync(Accommodation accommodation);
+
+    /** @see AccommodationRepository#saveIfAbsent(Accommodation) */
+    CompletableFuture<Accommodation> saveIfAbsentAsync(Accommodation accommodation);
+
+    CompletableFuture<Void> saveAllAsync(Collection<Accommodation> accommodations);
+
+    CompletableFuture<Optional<Accommodation>> findByNumberAsync(int roomNumber);
+
+    /** @see AccommodationRepository#findAll(int, int) */
+    CompletableFuture<List<Accommodation>> findAllAsync(int afterRoomNumber, int limit);
+
+    /**
+     * Adapts a blocking repository by running each call on {@code executor}, so callers are
+     * never blocked, only the executor's threads are.
+     */
+    static AsyncAccommodationRepository offloading(AccommodationRepository repository, Executor executor) {
+        return new OffloadingAccommodationRepository(repository, executor);
+    }
+}
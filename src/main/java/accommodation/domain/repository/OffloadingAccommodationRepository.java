@@ -0,0 +1,40 @@
+package accommodation.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import accommodation.domain.model.Accommodation;
+
+/** Runs a blocking repository's calls on an executor; see {@link AsyncAccommodationRepository#offloading}. */
+final class OffloadingAccommodationRepository implements AsyncAccommodationRepository {
+    private final AccommodationRepository repository;
+    private final Executor executor;
+
+    OffloadingAccommodationRepository(AccommodationRepository repository, Executor executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    @Override public CompletableFuture<Void> saveAsync(Accommodation accommodation) {
+        return CompletableFuture.runAsync(() -> repository.save(accommodation), executor);
+    }
+
+    @Override public CompletableFuture<Accommodation> saveIfAbsentAsync(Accommodation accommodation) {
+        return CompletableFuture.supplyAsync(() -> repository.saveIfAbsent(accommodation), executor);
+    }
+
+    @Override public CompletableFuture<Void> saveAllAsync(Collection<Accommodation> accommodations) {
+        return CompletableFuture.runAsync(() -> repository.saveAll(accommodations), executor);
+    }
+
+    @Override public CompletableFuture<Optional<Accommodation>> findByNumberAsync(int roomNumber) {
+        return CompletableFuture.supplyAsync(() -> repository.findByNumber(roomNumber), executor);
+    }
+
+    @Override public CompletableFuture<List<Accommodation>> findAllAsync(int afterRoomNumber, int limit) {
+        return CompletableFuture.supplyAsync(() -> repository.findAll(afterRoomNumber, limit), executor);
+    }
+}
@@ -0,0 +1,18 @@
+package accommodation.domain.repository;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Callback for rooms stored in an observed repository.
+ * <p>
+ * Listeners run on the saving thread while that room number is locked, so for any one room
+ * they see saves in order and {@code previous} is exactly what {@code current} replaced.
+ * They should be quick and must not throw: an exception reaches the caller of {@code save}
+ * after the room has already been stored.
+ */
+@FunctionalInterface
+public interface RoomChangeListener {
+
+    /** @param previous the room that was replaced, or {@code null} if the number was new */
+    void onSave(Accommodation previous, Accommodation current);
+}
@@ -1,12 +1,15 @@
 package accommodation.domain.singleton;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.RoomRegistry;
 
-public final class HallRegistry {
+public final class HallRegistry implements RoomRegistry {
     private static final HallRegistry INSTANCE = new HallRegistry();
 
     private final Map<Integer, Accommodation> rooms = new ConcurrentHashMap<>();
@@ -17,15 +20,29 @@ public final class HallRegistry {
         return INSTANCE;
     }
 
-    public void register(Accommodation accommodation) {
+    @Override public void register(Accommodation accommodation) {
         rooms.put(accommodation.getNumber(), accommodation);
     }
 
-    public Accommodation find(int roomNumber) {
+    @Override public Accommodation registerIfAbsent(Accommodation accommodation) {
+        Accommodation existing = rooms.putIfAbsent(accommodation.getNumber(), accommodation);
+        return existing != null ? existing : accommodation;
+    }
+
+    /** Publishes a batch with one pre-sized {@code putAll} instead of one put per room. */
+    @Override public void registerAll(Collection<Accommodation> accommodations) {
+        Map<Integer, Accommodation> batch = new HashMap<>((int) (accommodations.size() / 0.75f) + 1);
+        for (Accommodation accommodation : accommodations) {
+            batch.put(accommodation.getNumber(), accommodation);
+        }
+        rooms.putAll(batch);
+    }
+
+    @Override public Accommodation find(int roomNumber) {
         return rooms.get(roomNumber);
     }
 
-    public Map<Integer, Accommodation> all() {
+    @Override public Map<Integer, Accommodation> all() {
         return Collections.unmodifiableMap(rooms);
     }
     
@@ -0,0 +1,218 @@
+package accommodation.infrastructure.cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.infrastructure.repository.StripedRoomLocks;
+
+/**
+ * Read-through cache for {@code findByNumber} in front of a slow repository.
+ * <p>
+ * Lookups are served from a bounded {@link SegmentedLruCache}. Absent room numbers are
+ * cached too (with their own, usually shorter, TTL) so repeated probes for a missing room
+ * do not reach the backend. Concurrent misses for the same number are coalesced: one
+ * caller loads, the others wait for its result. Saves go to the backend first and are then
+ * written through to the cache, both under a lock striped by room number, so concurrent
+ * saves of one room reach the cache in the order they reached the backend and a reader
+ * never sees an older room after a save returns.
+ * <p>
+ * Bulk and ordered queries ({@code findAll}, paging, streams, secondary indexes) pass
+ * straight through to the backend.
+ */
+public final class CachingAccommodationRepository implements AccommodationRepository {
+    private final AccommodationRepository delegate;
+    private final SegmentedLruCache<Accommodation> cache;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final ConcurrentHashMap<Integer, CompletableFuture<Accommodation>> inFlight = new ConcurrentHashMap<>();
+    private final StripedRoomLocks writeLocks = new StripedRoomLocks();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public CachingAccommodationRepository(AccommodationRepository delegate, int maximumSize,
+                                          Duration ttl, Duration negativeTtl) {
+        this(delegate, maximumSize, ttl, negativeTtl, System::nanoTime);
+    }
+
+    /** @param clock monotonic nanosecond clock; injectable so tests can expire entries */
+    public CachingAccommodationRepository(AccommodationRepository delegate, int maximumSize,
+                                          Duration ttl, Duration negativeTtl, LongSupplier clock) {
+        if (ttl.isNegative() || ttl.isZero() || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("ttl must be positive and negative ttl not negative");
+        }
+        this.delegate = delegate;
+        this.cache = new SegmentedLruCache<>(maximumSize, clock);
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    @Override public Optional<Accommodation> findByNumber(int roomNumber) {
+        SegmentedLruCache.Entry<Accommodation> entry = cache.get(roomNumber);
+        if (entry != null) {
+            (entry.value() != null ? hits : negativeHits).increment();
+            return Optional.ofNullable(entry.value());
+        }
+        misses.increment();
+        return Optional.ofNullable(load(roomNumber));
+    }
+
+    @Override public List<Accommodation> findAllByNumbers(int[] roomNumbers) {
+        List<Accommodation> found = new ArrayList<>(roomNumbers.length);
+        for (int roomNumber : roomNumbers) {
+            findByNumber(roomNumber).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Override public void save(Accommodation accommodation) {
+        ReentrantLock stripe = writeLocks.forRoom(accommodation.getNumber());
+        stripe.lock();
+        try {
+            delegate.save(accommodation);
+            cache.put(accommodation.getNumber(), accommodation, ttlNanos);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override public Accommodation saveIfAbsent(Accommodation accommodation) {
+        ReentrantLock stripe = writeLocks.forRoom(accommodation.getNumber());
+        stripe.lock();
+        try {
+            Accommodation stored = delegate.saveIfAbsent(accommodation);
+            cache.put(stored.getNumber(), stored, ttlNanos);
+            return stored;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override public boolean replace(Accommodation expected, Accommodation replacement) {
+        ReentrantLock stripe = writeLocks.forRoom(replacement.getNumber());
+        stripe.lock();
+        try {
+            boolean replaced = delegate.replace(expected, replacement);
+            // a failed replace means the cached room may be stale; let the next lookup reload it
+            if (replaced) {
+                cache.put(replacement.getNumber(), replacement, ttlNanos);
+            } else {
+                cache.invalidate(replacement.getNumber());
+            }
+            return replaced;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override public void saveAll(Collection<Accommodation> accommodations) {
+        boolean[] touched = writeLocks.lock(accommodations);
+        try {
+            delegate.saveAll(accommodations);
+            for (Accommodation accommodation : accommodations) {
+                cache.put(accommodation.getNumber(), accommodation, ttlNanos);
+            }
+        } finally {
+            writeLocks.unlock(touched);
+        }
+    }
+
+    /** Drops the cached entry for {@code roomNumber}, e.g. after the backend changed behind our back. */
+    public void invalidate(int roomNumber) {
+        cache.invalidate(roomNumber);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), negativeHits.sum(), misses.sum(), loads.sum(),
+                cache.evictionCount(), cache.size());
+    }
+
+    @Override public Collection<Accommodation> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override public int size() {
+        return delegate.size();
+    }
+
+    @Override public List<Accommodation> findAll(int afterRoomNumber, int limit) {
+        return delegate.findAll(afterRoomNumber, limit);
+    }
+
+    @Override public Stream<Accommodation> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override public Collection<Accommodation> findByType(RoomType type) {
+        return delegate.findByType(type);
+    }
+
+    @Override public long countByType(RoomType type) {
+        return delegate.countByType(type);
+    }
+
+    @Override public List<Accommodation> findByPriceBetween(BigDecimal minInclusive, BigDecimal maxInclusive) {
+        return delegate.findByPriceBetween(minInclusive, maxInclusive);
+    }
+
+    /**
+     * Single-flight load. The loaded value is only installed if no save has cached a room
+     * for this number in the meantime, so a slow load can never overwrite a newer save.
+     */
+    private Accommodation load(int roomNumber) {
+        CompletableFuture<Accommodation> mine = new CompletableFuture<>();
+        CompletableFuture<Accommodation> leader = inFlight.putIfAbsent(roomNumber, mine);
+        if (leader != null) {
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException r ? r : e;
+            }
+        }
+        try {
+            loads.increment();
+            Accommodation loaded = delegate.findByNumber(roomNumber).orElse(null);
+            if (loaded != null) {
+                cache.putIfAbsent(roomNumber, loaded, ttlNanos);
+            } else if (negativeTtlNanos > 0) {
+                cache.putIfAbsent(roomNumber, null, negativeTtlNanos);
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(roomNumber, mine);
+        }
+    }
+
+    /**
+     * @param hits         lookups answered with a cached room
+     * @param negativeHits lookups answered from a cached "no such room"
+     * @param misses       lookups that had to load (or wait for a concurrent load)
+     * @param loads        backend lookups actually issued
+     */
+    public record CacheStats(long hits, long negativeHits, long misses, long loads, long evictions, int size) {
+        public double hitRatio() {
+            long requests = hits + negativeHits + misses;
+            return requests == 0 ? 0 : (double) (hits + negativeHits) / requests;
+        }
+    }
+}
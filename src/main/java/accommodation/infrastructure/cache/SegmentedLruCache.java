@@ -0,0 +1,168 @@
+package accommodation.infrastructure.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded int-keyed cache with segmented-LRU eviction and per-entry expiry.
+ * <p>
+ * New keys enter a probation segment; a second hit promotes them to a protected segment
+ * (about 80% of the capacity), whose least recently used entry is demoted back to
+ * probation when it overflows. Eviction always takes the probation LRU, so a burst of
+ * one-off keys (a scan) cannot flush the frequently used ones.
+ * <p>
+ * Keys are spread over independently locked stripes, each a small SLRU of its own, so
+ * concurrent readers of different keys rarely meet on the same lock.
+ *
+ * @param <V> cached value; {@code null} values are allowed and are cached too
+ */
+final class SegmentedLruCache<V> {
+    private static final int MAX_STRIPES = 16;
+
+    private final Stripe<V>[] stripes;
+    private final LongSupplier clock;
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    SegmentedLruCache(int maximumSize, LongSupplier clock) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximum size must be positive");
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, maximumSize / 64)));
+        int perStripe = (maximumSize + stripeCount - 1) / stripeCount;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(perStripe);
+        }
+        this.clock = clock;
+    }
+
+    /** Cached, unexpired entry for {@code key}, or {@code null}. */
+    Entry<V> get(int key) {
+        Stripe<V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Entry<V> entry = stripe.probation.remove(key);
+            if (entry != null) {
+                if (entry.expired(clock.getAsLong())) return null;
+                stripe.promote(key, entry);
+                return entry;
+            }
+            entry = stripe.protectedSegment.get(key);      // moves it to MRU
+            if (entry != null && entry.expired(clock.getAsLong())) {
+                stripe.protectedSegment.remove(key);
+                return null;
+            }
+            return entry;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** Stores {@code value}, replacing any entry for {@code key}. */
+    void put(int key, V value, long ttlNanos) {
+        install(key, value, ttlNanos, true);
+    }
+
+    /** Stores {@code value} unless an unexpired entry for {@code key} is present. */
+    void putIfAbsent(int key, V value, long ttlNanos) {
+        install(key, value, ttlNanos, false);
+    }
+
+    void invalidate(int key) {
+        Stripe<V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.probation.remove(key);
+            stripe.protectedSegment.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.probation.size() + stripe.protectedSegment.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void install(int key, V value, long ttlNanos, boolean replace) {
+        long now = clock.getAsLong();
+        Entry<V> entry = new Entry<>(value, now + ttlNanos);
+        Stripe<V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Entry<V> current = stripe.protectedSegment.get(key);
+            if (current != null) {
+                if (replace || current.expired(now)) stripe.protectedSegment.put(key, entry);
+                return;
+            }
+            current = stripe.probation.get(key);
+            if (current != null && !replace && !current.expired(now)) return;
+            stripe.probation.put(key, entry);
+            evictions.add(stripe.evictOverflow());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe<V> stripeFor(int key) {
+        int h = key * 0x9E3779B9;
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    record Entry<V>(V value, long expiresAt) {
+        boolean expired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private static final class Stripe<V> {
+        final ReentrantLock lock = new ReentrantLock();
+        final int capacity;
+        final int protectedCapacity;
+        final LinkedHashMap<Integer, Entry<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+        final LinkedHashMap<Integer, Entry<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.protectedCapacity = Math.max(1, capacity * 4 / 5);
+        }
+
+        /** Caller holds the lock and has removed {@code key} from probation. */
+        void promote(int key, Entry<V> entry) {
+            protectedSegment.put(key, entry);
+            if (protectedSegment.size() > protectedCapacity) {
+                Iterator<Map.Entry<Integer, Entry<V>>> lru = protectedSegment.entrySet().iterator();
+                Map.Entry<Integer, Entry<V>> demoted = lru.next();
+                lru.remove();
+                probation.put(demoted.getKey(), demoted.getValue());
+            }
+        }
+
+        /** Caller holds the lock. @return number of entries evicted */
+        int evictOverflow() {
+            int evicted = 0;
+            Iterator<Integer> lru = probation.keySet().iterator();
+            while (probation.size() + protectedSegment.size() > capacity && lru.hasNext()) {
+                lru.next();
+                lru.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package accommodation.infrastructure.cdc;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.RoomRegistry;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.infrastructure.repository.StripedRoomLocks;
+
+/**
+ * Registry decorator that publishes every registration to a {@link ChangeLog}, e.g. around
+ * {@code HallRegistry.instance()} so registrations made through the service are captured.
+ * <p>
+ * A registration reads the replaced room, registers and publishes under a lock striped by
+ * room number, so events of one room appear in the order they were applied. Lookups pass
+ * straight through.
+ */
+public final class CapturingRoomRegistry implements RoomRegistry {
+    private final RoomRegistry delegate;
+    private final ChangeLog log;
+    private final StripedRoomLocks locks = new StripedRoomLocks();
+
+    public CapturingRoomRegistry(RoomRegistry delegate, ChangeLog log) {
+        this.delegate = delegate;
+        this.log = log;
+    }
+
+    @Override public void register(Accommodation accommodation) {
+        ReentrantLock stripe = locks.forRoom(accommodation.getNumber());
+        stripe.lock();
+        try {
+            Accommodation previous = delegate.find(accommodation.getNumber());
+            delegate.register(accommodation);
+            log.publish(ChangeEvent.Source.REGISTRY, previous, accommodation);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override public Accommodation registerIfAbsent(Accommodation accommodation) {
+        ReentrantLock stripe = locks.forRoom(accommodation.getNumber());
+        stripe.lock();
+        try {
+            Accommodation winner = delegate.registerIfAbsent(accommodation);
+            if (winner == accommodation) log.publish(ChangeEvent.Source.REGISTRY, null, accommodation);
+            return winner;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /** Registers the batch with one {@code registerAll} on the delegate, then publishes it room by room. */
+    @Override public void registerAll(Collection<Accommodation> accommodations) {
+        boolean[] touched = locks.lock(accommodations);
+        try {
+            Map<Integer, Accommodation> latest = new HashMap<>();
+            Accommodation[] previous = new Accommodation[accommodations.size()];
+            int i = 0;
+            for (Accommodation accommodation : accommodations) {
+                Accommodation earlier = latest.put(accommodation.getNumber(), accommodation);
+                previous[i++] = earlier != null ? earlier : delegate.find(accommodation.getNumber());
+            }
+            delegate.registerAll(accommodations);
+            i = 0;
+            for (Accommodation accommodation : accommodations) {
+                log.publish(ChangeEvent.Source.REGISTRY, previous[i++], accommodation);
+            }
+        } finally {
+            locks.unlock(touched);
+        }
+    }
+
+    @Override public Accommodation find(int roomNumber) {
+        return delegate.find(roomNumber);
+    }
+
+    @Override public Map<Integer, Accommodation> all() {
+        return delegate.all();
+    }
+
+    @Override public int size() {
+        return delegate.size();
+    }
+
+    @Override public boolean isViewOf(AccommodationRepository repository) {
+        return delegate.isViewOf(repository);
+    }
+}
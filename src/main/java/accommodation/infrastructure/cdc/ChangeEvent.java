@@ -0,0 +1,23 @@
+package accommodation.infrastructure.cdc;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * One captured mutation. Offsets are dense and assigned in publication order, so a consumer
+ * that remembers the offset after the last event it processed can resume from there.
+ *
+ * @param previous the room that was replaced, or {@code null} if the number was new
+ */
+public record ChangeEvent(long offset, Source source, Accommodation previous, Accommodation current) {
+
+    public enum Source {
+        /** A room stored in the repository. */
+        REPOSITORY,
+        /** A room published to the registry. */
+        REGISTRY
+    }
+
+    public boolean isInsert() {
+        return previous == null;
+    }
+}
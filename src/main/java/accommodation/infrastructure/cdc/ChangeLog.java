@@ -0,0 +1,186 @@
+package accommodation.infrastructure.cdc;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.repository.RoomChangeListener;
+
+/**
+ * Bounded ring of {@link ChangeEvent}s for in-process change data capture.
+ * <p>
+ * Producers claim the next offset with one atomic increment and write the event into slot
+ * {@code offset % capacity}; the ring itself takes no locks. A slot is sequenced like a
+ * Disruptor's: the producer of offset {@code o} first waits until the slot holds event
+ * {@code o - capacity}, so a producer running a lap ahead never lands before a slow one from
+ * the previous lap and has its event overwritten. Each open {@link ChangeSubscription} is a
+ * gating position: a producer whose slot still holds an event some subscriber has not read
+ * waits until that subscriber moves on, so a slow consumer throttles writers instead of
+ * losing events, and memory stays at {@code capacity} events. Without subscribers the ring
+ * simply keeps the latest {@code capacity} events.
+ * <p>
+ * That wait is bounded by {@code publishTimeout}. A subscription still holding the producer
+ * back when it expires is evicted, and its next {@link ChangeSubscription#poll poll} fails
+ * with an {@link IllegalStateException}, so a leaked or crashed consumer cannot stall
+ * producers for longer than that. Publishers usually call in while holding a lock, such as
+ * the per-room stripe of {@code ObservableAccommodationRepository}, so the wait holds that
+ * lock too. A consumer must therefore not save to the repository it observes from the thread
+ * that polls, unless it keeps its lag well below {@code capacity}. If it does not, its own
+ * save waits for a poll that cannot happen until the timeout evicts the subscription.
+ * <p>
+ * Events of one room are published in the order its mutations were applied as long as the
+ * publisher serialises them per room, as {@code ObservableAccommodationRepository} and
+ * {@link CapturingRoomRegistry} do.
+ */
+public final class ChangeLog {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    public static final Duration DEFAULT_PUBLISH_TIMEOUT = Duration.ofSeconds(1);
+    static final long PARK_NANOS = 50_000;
+
+    private final int mask;
+    private final AtomicReferenceArray<ChangeEvent> slots;
+    private final long publishTimeoutNanos;
+    private final AtomicLong next = new AtomicLong();
+    private final CopyOnWriteArrayList<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public ChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** @param capacity events kept in the ring; rounded up to a power of two */
+    public ChangeLog(int capacity) {
+        this(capacity, DEFAULT_PUBLISH_TIMEOUT);
+    }
+
+    /**
+     * @param publishTimeout longest a producer waits for lagging subscribers before evicting
+     *                       them
+     */
+    public ChangeLog(int capacity, Duration publishTimeout) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be within 1..2^30: " + capacity);
+        }
+        if (publishTimeout.isNegative()) {
+            throw new IllegalArgumentException("publish timeout must not be negative");
+        }
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /** Listener to register with an {@code ObservableAccommodationRepository}. */
+    public RoomChangeListener repositoryListener() {
+        return (previous, current) -> publish(ChangeEvent.Source.REPOSITORY, previous, current);
+    }
+
+    /**
+     * Appends an event, waiting while the ring is full of events an open subscription has
+     * not read yet, for at most the publish timeout before evicting the subscriptions that
+     * are in the way.
+     *
+     * @return the event's offset
+     */
+    public long publish(ChangeEvent.Source source, Accommodation previous, Accommodation current) {
+        long offset = next.getAndIncrement();
+        awaitCapacity(offset);
+        slots.set((int) offset & mask, new ChangeEvent(offset, source, previous, current));
+        return offset;
+    }
+
+    /** Subscription that starts with the next event to be published. */
+    public ChangeSubscription subscribe() {
+        return subscribe(next.get());
+    }
+
+    /**
+     * Subscription that starts at {@code offset}, e.g. one past the last event a consumer
+     * processed before restarting.
+     *
+     * @throws IllegalArgumentException if that event has already been overwritten or not yet
+     *                                  been assigned
+     */
+    public ChangeSubscription subscribe(long offset) {
+        ChangeSubscription subscription = new ChangeSubscription(this, offset);
+        subscriptions.add(subscription);
+        // checked after registering, so no producer can overwrite the offset from here on
+        if (offset < oldestOffset() || offset > next.get()) {
+            subscriptions.remove(subscription);
+            throw new IllegalArgumentException("offset " + offset + " is outside the retained range "
+                    + oldestOffset() + ".." + next.get());
+        }
+        return subscription;
+    }
+
+    /** Offset the next published event will get. */
+    public long nextOffset() {
+        return next.get();
+    }
+
+    /** Oldest offset still held in the ring and so available to {@link #subscribe(long)}. */
+    public long oldestOffset() {
+        return Math.max(0, next.get() - capacity());
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /** The published event at {@code offset}, or {@code null} if it is not there yet. */
+    ChangeEvent eventAt(long offset) {
+        ChangeEvent event = slots.get((int) offset & mask);
+        if (event == null || event.offset() < offset) return null;
+        if (event.offset() > offset) {
+            throw new IllegalStateException("event " + offset + " was overwritten before it was read");
+        }
+        return event;
+    }
+
+    void unsubscribe(ChangeSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /*
+     * The subscription list is read after the offset was claimed. A subscription registered
+     * later validated its start against a counter that already included this offset, so it
+     * cannot start inside the slot this producer is about to overwrite.
+     */
+    private void awaitCapacity(long offset) {
+        long wrapPoint = offset - capacity();
+        if (wrapPoint < 0) return;
+        int slot = (int) offset & mask;
+        for (ChangeEvent previous = slots.get(slot); previous == null || previous.offset() < wrapPoint;
+             previous = slots.get(slot)) {
+            LockSupport.parkNanos(PARK_NANOS);   // the previous lap's producer has not written yet
+        }
+        boolean waiting = false;
+        long deadline = 0;
+        while (true) {
+            long gate = offset;
+            for (ChangeSubscription subscription : subscriptions) {
+                gate = Math.min(gate, subscription.position());
+            }
+            if (wrapPoint < gate) return;
+            if (!waiting) {
+                waiting = true;
+                deadline = System.nanoTime() + publishTimeoutNanos;
+            } else if (System.nanoTime() - deadline >= 0) {
+                evictBehind(wrapPoint);
+                continue;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    private void evictBehind(long wrapPoint) {
+        for (ChangeSubscription subscription : subscriptions) {
+            if (subscription.position() <= wrapPoint) {
+                subscription.evict();
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+}
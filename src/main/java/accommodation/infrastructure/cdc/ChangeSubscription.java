@@ -0,0 +1,75 @@
+package accommodation.infrastructure.cdc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A consumer's cursor into a {@link ChangeLog}. Meant for one consuming thread.
+ * <p>
+ * {@link #poll} hands out up to a batch of consecutive events and then advances, which frees
+ * their slots for producers. A consumer that needs to survive restarts stores
+ * {@link #position()} after processing each batch and resumes with
+ * {@link ChangeLog#subscribe(long)}. Close the subscription when done: an abandoned one
+ * holds producers back for the log's publish timeout on every lap and is then evicted.
+ */
+public final class ChangeSubscription implements AutoCloseable {
+    private final ChangeLog log;
+    private volatile long position;
+    private volatile boolean evicted;
+
+    ChangeSubscription(ChangeLog log, long position) {
+        this.log = log;
+        this.position = position;
+    }
+
+    /**
+     * Waits up to {@code timeout} for at least one event, then returns every consecutive
+     * published event up to {@code maxBatch}.
+     *
+     * @return the events in offset order; empty if none arrived in time
+     * @throws IllegalStateException if the subscription fell a full ring behind and was evicted
+     */
+    public List<ChangeEvent> poll(int maxBatch, long timeout, TimeUnit unit) {
+        if (maxBatch <= 0) throw new IllegalArgumentException("batch size must be positive");
+        if (evicted) {
+            throw new IllegalStateException("event " + position + " was overwritten before it was read:"
+                    + " the subscription lagged past the publish timeout and was evicted");
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long from = position;
+        ChangeEvent first;
+        while ((first = log.eventAt(from)) == null) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return List.of();
+            LockSupport.parkNanos(Math.min(remaining, ChangeLog.PARK_NANOS));
+        }
+        List<ChangeEvent> batch = new ArrayList<>(Math.min(maxBatch, 256));
+        batch.add(first);
+        ChangeEvent event;
+        while (batch.size() < maxBatch && (event = log.eventAt(from + batch.size())) != null) {
+            batch.add(event);
+        }
+        position = from + batch.size();
+        return batch;
+    }
+
+    /** Offset of the next event this subscription will return. */
+    public long position() {
+        return position;
+    }
+
+    /** Events published but not yet polled. */
+    public long lag() {
+        return log.nextOffset() - position;
+    }
+
+    void evict() {
+        evicted = true;
+    }
+
+    @Override public void close() {
+        log.unsubscribe(this);
+    }
+}
@@ -0,0 +1,165 @@
+package accommodation.infrastructure.codec;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
+import accommodation.domain.model.RoomType;
+
+/**
+ * Compact binary wire format for rooms, read and written in place on heap or direct buffers.
+ * <p>
+ * Record: {@code varint number | byte type ordinal | byte price scale | long unscaled price}.
+ * Batch: {@code byte VERSION | varint count | count records}. The room number is an unsigned
+ * LEB128 varint (1 byte up to 127, 2 up to 16383, at most 5) and the price is always written
+ * big-endian, whatever the buffer's byte order, so a record is 11 to 15 bytes.
+ * <p>
+ * Rooms on a canonical {@link RateCard} are encoded from precomputed values and decoded back
+ * onto the shared card, so the common case allocates nothing but the decoded
+ * {@link Accommodation}. Other prices must fit a {@code long} at a scale of 0..127.
+ */
+public final class AccommodationCodec {
+    public static final byte VERSION = 1;
+    public static final int MAX_RECORD_SIZE = 5 + 1 + 1 + 8;
+
+    private static final RoomType[] TYPES = RoomType.values();
+    private static final byte[] CANONICAL_SCALE = new byte[TYPES.length];
+    private static final long[] CANONICAL_UNSCALED = new long[TYPES.length];
+
+    static {
+        for (RoomType type : TYPES) {
+            BigDecimal price = RateCard.standardFor(type).getPricePerMonth();
+            CANONICAL_SCALE[type.ordinal()] = (byte) price.scale();
+            CANONICAL_UNSCALED[type.ordinal()] = price.unscaledValue().longValueExact();
+        }
+    }
+
+    private AccommodationCodec() {}
+
+    /** Encoded size of one record, without the batch header. */
+    public static int sizeOf(Accommodation accommodation) {
+        return varintSize(accommodation.getNumber()) + 1 + 1 + 8;
+    }
+
+    /** Writes one record at the buffer's position. */
+    public static void encode(ByteBuffer out, Accommodation accommodation) {
+        RoomType type = accommodation.getType();
+        BigDecimal price = accommodation.getPricePerMonth();
+        int scale;
+        long unscaled;
+        if (price == RateCard.standardFor(type).getPricePerMonth()) {
+            scale = CANONICAL_SCALE[type.ordinal()];
+            unscaled = CANONICAL_UNSCALED[type.ordinal()];
+        } else {
+            scale = price.scale();
+            if (scale < 0 || scale > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("price scale out of range: " + price);
+            }
+            try {
+                unscaled = price.scaleByPowerOfTen(scale).longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("price too large to encode: " + price, e);
+            }
+        }
+        putVarint(out, accommodation.getNumber());
+        out.put((byte) type.ordinal());
+        out.put((byte) scale);
+        out.putLong(out.order() == ByteOrder.BIG_ENDIAN ? unscaled : Long.reverseBytes(unscaled));
+    }
+
+    /** Reads one record at the buffer's position. */
+    public static Accommodation decode(ByteBuffer in) {
+        int number = getVarint(in);
+        int type = in.get();
+        int scale = in.get();
+        long unscaled = in.getLong();
+        if (in.order() != ByteOrder.BIG_ENDIAN) unscaled = Long.reverseBytes(unscaled);
+        if (type < 0 || type >= TYPES.length) {
+            throw new IllegalArgumentException("unknown room type ordinal " + type);
+        }
+        if (scale == CANONICAL_SCALE[type] && unscaled == CANONICAL_UNSCALED[type]) {
+            return new Accommodation(number, RateCard.standardFor(TYPES[type]));
+        }
+        if (scale < 0) {
+            throw new IllegalArgumentException("negative price scale " + scale);
+        }
+        return new Accommodation(number, TYPES[type], BigDecimal.valueOf(unscaled, scale));
+    }
+
+    /** Encoded size of a whole batch, header included. */
+    public static int sizeOf(Collection<Accommodation> accommodations) {
+        int size = 1 + varintSize(accommodations.size());
+        for (Accommodation accommodation : accommodations) {
+            size += sizeOf(accommodation);
+        }
+        return size;
+    }
+
+    /**
+     * Writes a versioned batch. Size the buffer with {@link #sizeOf(Collection)}, or
+     * {@code 6 + n * MAX_RECORD_SIZE} as an upper bound.
+     */
+    public static void encodeBatch(ByteBuffer out, Collection<Accommodation> accommodations) {
+        out.put(VERSION);
+        putVarint(out, accommodations.size());
+        int written = 0;
+        for (Accommodation accommodation : accommodations) {
+            encode(out, accommodation);
+            written++;
+        }
+        if (written != accommodations.size()) {
+            throw new IllegalStateException("batch changed while encoding");
+        }
+    }
+
+    /**
+     * Streams a batch into {@code sink} without collecting it first.
+     *
+     * @return the number of rooms decoded
+     */
+    public static int decodeBatch(ByteBuffer in, Consumer<Accommodation> sink) {
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported codec version " + version + ", expected " + VERSION);
+        }
+        int count = getVarint(in);
+        for (int i = 0; i < count; i++) {
+            sink.accept(decode(in));
+        }
+        return count;
+    }
+
+    public static List<Accommodation> decodeBatch(ByteBuffer in) {
+        List<Accommodation> rooms = new ArrayList<>();
+        decodeBatch(in, rooms::add);
+        return rooms;
+    }
+
+    static int varintSize(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+}
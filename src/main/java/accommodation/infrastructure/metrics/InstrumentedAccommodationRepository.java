@@ -0,0 +1,158 @@
+package accommodation.infrastructure.metrics;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.infrastructure.repository.PrimitiveAccommodationRepository;
+
+/**
+ * Times every repository operation and counts lookup hits and misses. Registers a size
+ * gauge, plus capacity and resize-count gauges when the delegate is a
+ * {@link PrimitiveAccommodationRepository}.
+ */
+public final class InstrumentedAccommodationRepository implements AccommodationRepository {
+    private final AccommodationRepository delegate;
+    private final Metrics.Timer save;
+    private final Metrics.Timer saveIfAbsent;
+    private final Metrics.Timer replace;
+    private final Metrics.Timer saveAll;
+    private final Metrics.Timer findByNumber;
+    private final Metrics.Timer findAll;
+    private final Metrics.Timer findPage;
+    private final Metrics.Timer findByType;
+    private final Metrics.Timer findByPrice;
+    private final Metrics.Counter hits;
+    private final Metrics.Counter misses;
+
+    public InstrumentedAccommodationRepository(AccommodationRepository delegate, Metrics metrics, String prefix) {
+        this.delegate = delegate;
+        this.save = metrics.timer(prefix + ".save");
+        this.saveIfAbsent = metrics.timer(prefix + ".saveIfAbsent");
+        this.replace = metrics.timer(prefix + ".replace");
+        this.saveAll = metrics.timer(prefix + ".saveAll");
+        this.findByNumber = metrics.timer(prefix + ".findByNumber");
+        this.findAll = metrics.timer(prefix + ".findAll");
+        this.findPage = metrics.timer(prefix + ".findPage");
+        this.findByType = metrics.timer(prefix + ".findByType");
+        this.findByPrice = metrics.timer(prefix + ".findByPriceBetween");
+        this.hits = metrics.counter(prefix + ".findByNumber.hits");
+        this.misses = metrics.counter(prefix + ".findByNumber.misses");
+
+        metrics.gauge(prefix + ".size", delegate::size);
+        if (delegate instanceof PrimitiveAccommodationRepository primitive) {
+            metrics.gauge(prefix + ".capacity", primitive::capacity);
+            metrics.gauge(prefix + ".resizes", primitive::resizeCount);
+        }
+    }
+
+    /** Instrumented {@code delegate}, or {@code delegate} itself when metrics are disabled. */
+    public static AccommodationRepository wrap(AccommodationRepository delegate, Metrics metrics) {
+        return metrics.enabled() ? new InstrumentedAccommodationRepository(delegate, metrics, "repository") : delegate;
+    }
+
+    @Override public void save(Accommodation accommodation) {
+        long start = save.start();
+        try {
+            delegate.save(accommodation);
+        } finally {
+            save.stop(start);
+        }
+    }
+
+    @Override public Accommodation saveIfAbsent(Accommodation accommodation) {
+        long start = saveIfAbsent.start();
+        try {
+            return delegate.saveIfAbsent(accommodation);
+        } finally {
+            saveIfAbsent.stop(start);
+        }
+    }
+
+    @Override public boolean replace(Accommodation expected, Accommodation replacement) {
+        long start = replace.start();
+        try {
+            return delegate.replace(expected, replacement);
+        } finally {
+            replace.stop(start);
+        }
+    }
+
+    @Override public void saveAll(Collection<Accommodation> accommodations) {
+        long start = saveAll.start();
+        try {
+            delegate.saveAll(accommodations);
+        } finally {
+            saveAll.stop(start);
+        }
+    }
+
+    @Override public Optional<Accommodation> findByNumber(int roomNumber) {
+        long start = findByNumber.start();
+        Optional<Accommodation> found;
+        try {
+            found = delegate.findByNumber(roomNumber);
+        } finally {
+            findByNumber.stop(start);
+        }
+        if (start != Metrics.Timer.NOT_SAMPLED) (found.isPresent() ? hits : misses).increment();
+        return found;
+    }
+
+    @Override public Collection<Accommodation> findAll() {
+        long start = findAll.start();
+        try {
+            return delegate.findAll();
+        } finally {
+            findAll.stop(start);
+        }
+    }
+
+    @Override public int size() {
+        return delegate.size();
+    }
+
+    @Override public List<Accommodation> findAll(int afterRoomNumber, int limit) {
+        long start = findPage.start();
+        try {
+            return delegate.findAll(afterRoomNumber, limit);
+        } finally {
+            findPage.stop(start);
+        }
+    }
+
+    @Override public Collection<Accommodation> findByType(RoomType type) {
+        long start = findByType.start();
+        try {
+            return delegate.findByType(type);
+        } finally {
+            findByType.stop(start);
+        }
+    }
+
+    @Override public List<Accommodation> findByPriceBetween(BigDecimal minInclusive, BigDecimal maxInclusive) {
+        long start = findByPrice.start();
+        try {
+            return delegate.findByPriceBetween(minInclusive, maxInclusive);
+        } finally {
+            findByPrice.stop(start);
+        }
+    }
+
+    @Override public List<Accommodation> findAllByNumbers(int[] roomNumbers) {
+        return delegate.findAllByNumbers(roomNumbers);
+    }
+
+    @Override public Stream<Accommodation> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override public long countByType(RoomType type) {
+        return delegate.countByType(type);
+    }
+}
@@ -0,0 +1,105 @@
+package accommodation.infrastructure.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import accommodation.application.AccommodationService;
+import accommodation.application.CreationResult;
+import accommodation.domain.model.Accommodation;
+
+/** Times the service use cases and counts creation conflicts and lookup misses. */
+public final class InstrumentedAccommodationService implements AccommodationService {
+    private final AccommodationService delegate;
+    private final Metrics.Timer create;
+    private final Metrics.Timer tryCreate;
+    private final Metrics.Timer createBulk;
+    private final Metrics.Timer listAll;
+    private final Metrics.Timer listPage;
+    private final Metrics.Timer findByNumber;
+    private final Metrics.Counter conflicts;
+    private final Metrics.Counter hits;
+    private final Metrics.Counter misses;
+
+    public InstrumentedAccommodationService(AccommodationService delegate, Metrics metrics, String prefix) {
+        this.delegate = delegate;
+        this.create = metrics.timer(prefix + ".createAccommodation");
+        this.tryCreate = metrics.timer(prefix + ".tryCreate");
+        this.createBulk = metrics.timer(prefix + ".createAccommodations");
+        this.listAll = metrics.timer(prefix + ".listAll");
+        this.listPage = metrics.timer(prefix + ".listPage");
+        this.findByNumber = metrics.timer(prefix + ".findByNumber");
+        this.conflicts = metrics.counter(prefix + ".tryCreate.conflicts");
+        this.hits = metrics.counter(prefix + ".findByNumber.hits");
+        this.misses = metrics.counter(prefix + ".findByNumber.misses");
+    }
+
+    /** Instrumented {@code delegate}, or {@code delegate} itself when metrics are disabled. */
+    public static AccommodationService wrap(AccommodationService delegate, Metrics metrics) {
+        return metrics.enabled() ? new InstrumentedAccommodationService(delegate, metrics, "service") : delegate;
+    }
+
+    @Override public Accommodation createAccommodation(int roomNumber) {
+        long start = create.start();
+        try {
+            return delegate.createAccommodation(roomNumber);
+        } finally {
+            create.stop(start);
+        }
+    }
+
+    @Override public CreationResult tryCreate(int roomNumber) {
+        long start = tryCreate.start();
+        CreationResult result;
+        try {
+            result = delegate.tryCreate(roomNumber);
+        } finally {
+            tryCreate.stop(start);
+        }
+        if (!result.created()) conflicts.increment();
+        return result;
+    }
+
+    @Override public Collection<Accommodation> listAll() {
+        long start = listAll.start();
+        try {
+            return delegate.listAll();
+        } finally {
+            listAll.stop(start);
+        }
+    }
+
+    @Override public Accommodation findByNumber(int roomNumber) {
+        long start = findByNumber.start();
+        Accommodation found;
+        try {
+            found = delegate.findByNumber(roomNumber);
+        } finally {
+            findByNumber.stop(start);
+        }
+        if (start != Metrics.Timer.NOT_SAMPLED) (found != null ? hits : misses).increment();
+        return found;
+    }
+
+    @Override public List<Accommodation> listAll(int afterRoomNumber, int limit) {
+        long start = listPage.start();
+        try {
+            return delegate.listAll(afterRoomNumber, limit);
+        } finally {
+            listPage.stop(start);
+        }
+    }
+
+    @Override public Stream<Accommodation> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override public List<Accommodation> createAccommodations(int... roomNumbers) {
+        long start = createBulk.start();
+        try {
+            return delegate.createAccommodations(roomNumbers);
+        } finally {
+            createBulk.stop(start);
+        }
+    }
+}
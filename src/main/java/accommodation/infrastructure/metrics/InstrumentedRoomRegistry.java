@@ -0,0 +1,86 @@
+package accommodation.infrastructure.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.RoomRegistry;
+import accommodation.domain.repository.AccommodationRepository;
+
+/** Times registry operations, counts lookup hits and misses and gauges the registry size. */
+public final class InstrumentedRoomRegistry implements RoomRegistry {
+    private final RoomRegistry delegate;
+    private final Metrics.Timer register;
+    private final Metrics.Timer registerIfAbsent;
+    private final Metrics.Timer registerAll;
+    private final Metrics.Timer find;
+    private final Metrics.Counter hits;
+    private final Metrics.Counter misses;
+
+    public InstrumentedRoomRegistry(RoomRegistry delegate, Metrics metrics, String prefix) {
+        this.delegate = delegate;
+        this.register = metrics.timer(prefix + ".register");
+        this.registerIfAbsent = metrics.timer(prefix + ".registerIfAbsent");
+        this.registerAll = metrics.timer(prefix + ".registerAll");
+        this.find = metrics.timer(prefix + ".find");
+        this.hits = metrics.counter(prefix + ".find.hits");
+        this.misses = metrics.counter(prefix + ".find.misses");
+        metrics.gauge(prefix + ".size", delegate::size);
+    }
+
+    /** Instrumented {@code delegate}, or {@code delegate} itself when metrics are disabled. */
+    public static RoomRegistry wrap(RoomRegistry delegate, Metrics metrics) {
+        return metrics.enabled() ? new InstrumentedRoomRegistry(delegate, metrics, "registry") : delegate;
+    }
+
+    @Override public void register(Accommodation accommodation) {
+        long start = register.start();
+        try {
+            delegate.register(accommodation);
+        } finally {
+            register.stop(start);
+        }
+    }
+
+    @Override public Accommodation registerIfAbsent(Accommodation accommodation) {
+        long start = registerIfAbsent.start();
+        try {
+            return delegate.registerIfAbsent(accommodation);
+        } finally {
+            registerIfAbsent.stop(start);
+        }
+    }
+
+    @Override public void registerAll(Collection<Accommodation> accommodations) {
+        long start = registerAll.start();
+        try {
+            delegate.registerAll(accommodations);
+        } finally {
+            registerAll.stop(start);
+        }
+    }
+
+    @Override public Accommodation find(int roomNumber) {
+        long start = find.start();
+        Accommodation found;
+        try {
+            found = delegate.find(roomNumber);
+        } finally {
+            find.stop(start);
+        }
+        if (start != Metrics.Timer.NOT_SAMPLED) (found != null ? hits : misses).increment();
+        return found;
+    }
+
+    @Override public Map<Integer, Accommodation> all() {
+        return delegate.all();
+    }
+
+    @Override public int size() {
+        return delegate.size();
+    }
+
+    @Override public boolean isViewOf(AccommodationRepository repository) {
+        return delegate.isViewOf(repository);
+    }
+}
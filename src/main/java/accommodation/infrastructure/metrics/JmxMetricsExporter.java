@@ -0,0 +1,94 @@
+package accommodation.infrastructure.metrics;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+/**
+ * Publishes a {@link LocalMetrics} as one read-only MBean whose attributes are the entries
+ * of {@link LocalMetrics#snapshot()}. Values are computed when a JMX client reads them, and
+ * only the attributes it reads are evaluated.
+ */
+public final class JmxMetricsExporter implements DynamicMBean, Closeable {
+    public static final String DEFAULT_NAME = "accommodation:type=Metrics";
+
+    private final LocalMetrics metrics;
+    private final MBeanServer server;
+    private final ObjectName name;
+
+    private JmxMetricsExporter(LocalMetrics metrics, MBeanServer server, ObjectName name) {
+        this.metrics = metrics;
+        this.server = server;
+        this.name = name;
+    }
+
+    /** Registers {@code metrics} on the platform MBean server under {@link #DEFAULT_NAME}. */
+    public static JmxMetricsExporter register(LocalMetrics metrics) throws JMException {
+        return register(metrics, ManagementFactory.getPlatformMBeanServer(), new ObjectName(DEFAULT_NAME));
+    }
+
+    public static JmxMetricsExporter register(LocalMetrics metrics, MBeanServer server, ObjectName name)
+            throws JMException {
+        JmxMetricsExporter exporter = new JmxMetricsExporter(metrics, server, name);
+        server.registerMBean(exporter, name);
+        return exporter;
+    }
+
+    public ObjectName objectName() {
+        return name;
+    }
+
+    @Override public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Number value = metrics.value(attribute);
+        if (value == null) throw new AttributeNotFoundException(attribute);
+        return value;
+    }
+
+    @Override public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            Number value = metrics.value(attribute);
+            if (value != null) list.add(new Attribute(attribute, value));
+        }
+        return list;
+    }
+
+    @Override public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("metrics are read-only: " + attribute.getName());
+    }
+
+    @Override public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override public MBeanInfo getMBeanInfo() {
+        MBeanAttributeInfo[] attributes = metrics.describe().entrySet().stream()
+                .map(e -> new MBeanAttributeInfo(e.getKey(), e.getValue().getName(),
+                        e.getKey(), true, false, false))
+                .toArray(MBeanAttributeInfo[]::new);
+        return new MBeanInfo(getClass().getName(), "Accommodation metrics", attributes, null, null, null);
+    }
+
+    /** Unregisters the MBean. */
+    @Override public void close() {
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            // already gone
+        }
+    }
+}
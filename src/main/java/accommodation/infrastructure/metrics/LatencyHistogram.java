@@ -0,0 +1,98 @@
+package accommodation.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent log-linear latency histogram in the style of HdrHistogram.
+ * <p>
+ * Values below 32 get a bucket each; above that every power of two is split into 32
+ * sub-buckets, so any recorded value is reported within about 3% of its true value, from
+ * nanoseconds up to {@code Long.MAX_VALUE}, in a fixed ~15 KB per stripe. Buckets are
+ * striped by thread so that threads recording similar latencies do not all CAS the same
+ * word; reads add the stripes up.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final int stripeMask;
+    private final AtomicLongArray buckets;
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        int stripes = Integer.highestOneBit(Math.min(8, Runtime.getRuntime().availableProcessors()));
+        this.stripeMask = stripes - 1;
+        this.buckets = new AtomicLongArray(stripes * BUCKET_COUNT);
+    }
+
+    /** Records one latency; negative values are clamped to 0. */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        buckets.getAndIncrement(stripe * BUCKET_COUNT + bucketOf(value));
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        long n = 0;
+        for (int i = 0; i < buckets.length(); i++) n += buckets.get(i);
+        return n;
+    }
+
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : (double) total.sum() / n;
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Smallest bucket bound at or below which {@code percentile} percent of recorded values
+     * fall, capped at the recorded maximum. Returns 0 when nothing has been recorded.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("percentile must be in [0, 100]");
+        long[] merged = merged();
+        long recorded = 0;
+        for (long c : merged) recorded += c;
+        if (recorded == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long seen = 0;
+        for (int i = 0; i < merged.length; i++) {
+            seen += merged[i];
+            if (seen >= rank) return Math.min(highestValueIn(i), max());
+        }
+        return max();
+    }
+
+    private long[] merged() {
+        long[] merged = new long[BUCKET_COUNT];
+        for (int i = 0; i < buckets.length(); i++) {
+            merged[i % BUCKET_COUNT] += buckets.get(i);
+        }
+        return merged;
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_COUNT) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+        long width = 1L << (exponent - SUB_BITS);
+        long lowest = (1L << exponent) | (long) (bucket % SUB_COUNT) * width;
+        return lowest + (width - 1);
+    }
+}
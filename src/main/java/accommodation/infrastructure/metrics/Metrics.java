@@ -0,0 +1,53 @@
+package accommodation.infrastructure.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Metrics SPI used by the instrumented decorators. {@link LocalMetrics} is the built-in
+ * implementation; an adapter to another metrics library only needs to implement these
+ * three factory methods.
+ * <p>
+ * Decorators are not installed at all when {@link #enabled()} is {@code false}, so
+ * {@link #noop()} costs nothing on the hot path.
+ */
+public interface Metrics {
+
+    /** Returns the counter registered under {@code name}, creating it on first use. */
+    Counter counter(String name);
+
+    /** Returns the latency timer registered under {@code name}, creating it on first use. */
+    Timer timer(String name);
+
+    /** Registers a value that is sampled when metrics are read, e.g. a map size. */
+    void gauge(String name, LongSupplier value);
+
+    default boolean enabled() {
+        return true;
+    }
+
+    static Metrics noop() {
+        return NoopMetrics.INSTANCE;
+    }
+
+    interface Counter {
+        void add(long delta);
+
+        default void increment() {
+            add(1);
+        }
+    }
+
+    /**
+     * Latency timer, used as {@code long t = timer.start(); try { ... } finally { timer.stop(t); }}.
+     * Implementations may time, and count, only a sample of calls.
+     */
+    interface Timer {
+        /** Returned by {@link #start()} for calls that are not sampled. */
+        long NOT_SAMPLED = Long.MIN_VALUE;
+
+        /** @return a start timestamp, or {@link #NOT_SAMPLED} */
+        long start();
+
+        void stop(long start);
+    }
+}
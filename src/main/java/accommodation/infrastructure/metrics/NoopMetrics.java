@@ -0,0 +1,21 @@
+package accommodation.infrastructure.metrics;
+
+import java.util.function.LongSupplier;
+
+final class NoopMetrics implements Metrics {
+    static final NoopMetrics INSTANCE = new NoopMetrics();
+
+    private static final Counter COUNTER = delta -> { };
+    private static final Timer TIMER = new Timer() {
+        @Override public long start()          { return NOT_SAMPLED; }
+        @Override public void stop(long start) { }
+    };
+
+    private NoopMetrics() {
+    }
+
+    @Override public Counter counter(String name)                  { return COUNTER; }
+    @Override public Timer timer(String name)                      { return TIMER; }
+    @Override public void gauge(String name, LongSupplier value)   { }
+    @Override public boolean enabled()                             { return false; }
+}
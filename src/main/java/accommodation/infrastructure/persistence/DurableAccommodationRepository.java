@@ -0,0 +1,202 @@
+package accommodation.infrastructure.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Makes any {@link AccommodationRepository} crash-safe by logging every save to a
+ * {@link WriteAheadLog} and periodically compacting the log into a {@link SnapshotStore}.
+ * <p>
+ * A save is appended to the log and applied to the delegate under one lock, so the delegate
+ * sees mutations in log order, and then waits for the group commit that covers it. Concurrent
+ * savers therefore share fsyncs instead of paying one each. Reads go straight to the delegate.
+ * <p>
+ * On startup the newest snapshot is loaded and only the log records after it are replayed.
+ * Once {@code snapshotEvery} records have been logged since the last snapshot, the saving
+ * thread that crosses the threshold writes a new snapshot and drops the covered segments.
+ */
+public final class DurableAccommodationRepository implements AccommodationRepository, Closeable {
+    public static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+    public static final long DEFAULT_SNAPSHOT_EVERY = 1_000_000;
+
+    private final AccommodationRepository delegate;
+    private final SnapshotStore snapshots;
+    private final WriteAheadLog log;
+    private final long snapshotEvery;
+
+    private final Object applyLock = new Object();
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    private volatile long snapshotLsn;
+
+    public DurableAccommodationRepository(AccommodationRepository delegate, Path directory) throws IOException {
+        this(delegate, directory, DEFAULT_SEGMENT_BYTES, DEFAULT_SNAPSHOT_EVERY);
+    }
+
+    /**
+     * @param delegate      in-memory state, recovered into on construction; should start empty
+     * @param snapshotEvery log records between automatic snapshots, or 0 to only snapshot on
+     *                      {@link #checkpoint()}
+     */
+    public DurableAccommodationRepository(AccommodationRepository delegate, Path directory,
+                                          long segmentBytes, long snapshotEvery) throws IOException {
+        if (snapshotEvery < 0) {
+            throw new IllegalArgumentException("snapshot interval must not be negative");
+        }
+        this.delegate = delegate;
+        this.snapshotEvery = snapshotEvery;
+        this.snapshots = new SnapshotStore(directory);
+        this.snapshotLsn = snapshots.load(delegate::save).orElse(0L);
+        this.log = WriteAheadLog.open(directory, segmentBytes, snapshotLsn, delegate::save);
+    }
+
+    @Override public void save(Accommodation accommodation) {
+        long lsn;
+        synchronized (applyLock) {
+            lsn = log.append(accommodation);
+            delegate.save(accommodation);
+        }
+        log.sync(lsn);
+        maybeCheckpoint(lsn);
+    }
+
+    /** Only a room that is actually inserted is logged; a lost race costs no log write. */
+    @Override public Accommodation saveIfAbsent(Accommodation accommodation) {
+        long lsn;
+        synchronized (applyLock) {
+            Optional<Accommodation> existing = delegate.findByNumber(accommodation.getNumber());
+            if (existing.isPresent()) return existing.get();
+            lsn = log.append(accommodation);
+            delegate.save(accommodation);
+        }
+        log.sync(lsn);
+        maybeCheckpoint(lsn);
+        return accommodation;
+    }
+
+    /** Like {@link #saveIfAbsent}, only a replacement that is actually applied is logged. */
+    @Override public boolean replace(Accommodation expected, Accommodation replacement) {
+        AccommodationRepository.checkSameRoom(expected, replacement);
+        long lsn;
+        synchronized (applyLock) {
+            Optional<Accommodation> current = delegate.findByNumber(expected.getNumber());
+            if (current.isEmpty() || !current.get().equals(expected)) return false;
+            lsn = log.append(replacement);
+            delegate.save(replacement);
+        }
+        log.sync(lsn);
+        maybeCheckpoint(lsn);
+        return true;
+    }
+
+    /** The whole batch shares one log flush; a room that cannot be logged rejects all of it. */
+    @Override public void saveAll(Collection<Accommodation> accommodations) {
+        long lsn;
+        synchronized (applyLock) {
+            lsn = log.appendAll(accommodations);
+            delegate.saveAll(accommodations);
+        }
+        log.sync(lsn);
+        maybeCheckpoint(lsn);
+    }
+
+    @Override public Optional<Accommodation> findByNumber(int roomNumber) {
+        return delegate.findByNumber(roomNumber);
+    }
+
+    @Override public Collection<Accommodation> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override public int size() {
+        return delegate.size();
+    }
+
+    @Override public List<Accommodation> findAllByNumbers(int[] roomNumbers) {
+        return delegate.findAllByNumbers(roomNumbers);
+    }
+
+    @Override public List<Accommodation> findAll(int afterRoomNumber, int limit) {
+        return delegate.findAll(afterRoomNumber, limit);
+    }
+
+    @Override public Stream<Accommodation> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override public Collection<Accommodation> findByType(RoomType type) {
+        return delegate.findByType(type);
+    }
+
+    @Override public long countByType(RoomType type) {
+        return delegate.countByType(type);
+    }
+
+    @Override public List<Accommodation> findByPriceBetween(BigDecimal minInclusive, BigDecimal maxInclusive) {
+        return delegate.findByPriceBetween(minInclusive, maxInclusive);
+    }
+
+    /**
+     * Snapshots the current state and deletes log segments it makes redundant.
+     * Saves may continue while the snapshot is written; checkpoints run one at a time.
+     */
+    public void checkpoint() {
+        checkpointLock.lock();
+        try {
+            checkpointLocked();
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private void checkpointLocked() {
+        long lsn;
+        synchronized (applyLock) {
+            lsn = log.lastLsn();   // every record up to here is already in the delegate
+        }
+        if (lsn <= snapshotLsn) return;
+        log.sync(lsn);
+        try {
+            snapshots.write(lsn, delegate.findAll());
+        } catch (IOException e) {
+            throw new UncheckedIOException("snapshot failed", e);
+        }
+        snapshotLsn = lsn;
+        log.truncateUpTo(lsn);
+    }
+
+    /** LSN covered by the newest snapshot. */
+    public long snapshotLsn() {
+        return snapshotLsn;
+    }
+
+    /** Number of log segments that recovery would currently have to look at. */
+    public int segmentCount() {
+        return log.segmentCount();
+    }
+
+    @Override public void close() throws IOException {
+        log.close();
+    }
+
+    private void maybeCheckpoint(long lsn) {
+        if (snapshotEvery == 0 || lsn - snapshotLsn < snapshotEvery) return;
+        if (!checkpointLock.tryLock()) return;   // one is already running
+        try {
+            if (lsn - snapshotLsn >= snapshotEvery) checkpointLocked();
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package accommodation.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+
+/**
+ * Binary room encoding shared by the log and the snapshots:
+ * {@code int number | byte type ordinal | int price scale | byte n | n bytes unscaled price (two's complement)}.
+ */
+final class RoomRecords {
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private RoomRecords() {}
+
+    static int sizeOf(Accommodation accommodation) {
+        return 4 + 1 + 4 + 1 + unscaledLength(accommodation.getPricePerMonth());
+    }
+
+    static void write(ByteBuffer out, Accommodation accommodation) {
+        BigDecimal price = accommodation.getPricePerMonth();
+        byte[] unscaled = price.unscaledValue().toByteArray();
+        out.putInt(accommodation.getNumber());
+        out.put((byte) accommodation.getType().ordinal());
+        out.putInt(price.scale());
+        out.put((byte) unscaled.length);
+        out.put(unscaled);
+    }
+
+    static Accommodation read(ByteBuffer in) {
+        int number = in.getInt();
+        int type = in.get();
+        int scale = in.getInt();
+        byte[] unscaled = new byte[in.get() & 0xFF];
+        in.get(unscaled);
+        if (type < 0 || type >= TYPES.length) {
+            throw new IllegalArgumentException("unknown room type ordinal " + type);
+        }
+        return new Accommodation(number, TYPES[type], new BigDecimal(new BigInteger(unscaled), scale));
+    }
+
+    private static int unscaledLength(BigDecimal price) {
+        int length = price.unscaledValue().bitLength() / 8 + 1;
+        if (length > 255) {
+            throw new IllegalArgumentException("price too large to persist: " + price);
+        }
+        return length;
+    }
+}
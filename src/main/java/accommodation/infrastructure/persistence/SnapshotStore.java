@@ -0,0 +1,136 @@
+package accommodation.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Compacted point-in-time copies of the estate, one file per snapshot.
+ * <p>
+ * File layout: {@code int magic | long lsn | rooms... | int count | int crc32c}. The count
+ * trails the rooms so a live, weakly consistent collection can be streamed straight out.
+ * A snapshot is written to a temporary file, forced and then atomically renamed, so a crash
+ * never leaves a half-written snapshot under its final name. Only the newest one is kept.
+ */
+public final class SnapshotStore {
+    private static final int MAGIC = 0x55574553; // "UWES"
+    private static final int HEADER = 4 + 8;
+    private static final int CHUNK = 1 << 20;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+
+    private final Path directory;
+
+    public SnapshotStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Writes {@code rooms} as the snapshot for {@code lsn}, then deletes snapshots for lower
+     * LSNs; a newer snapshot written concurrently is left alone.
+     * The rooms may already include some changes made after {@code lsn}: replaying the log
+     * from {@code lsn + 1} applies those again in order, which converges to the same state.
+     */
+    public void write(long lsn, Collection<Accommodation> rooms) throws IOException {
+        Path target = pathFor(lsn);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK);
+            buffer.putInt(MAGIC).putLong(lsn);
+            int written = 0;
+            for (Accommodation room : rooms) {
+                if (buffer.remaining() < RoomRecords.sizeOf(room)) {
+                    drain(out, buffer, crc);
+                }
+                RoomRecords.write(buffer, room);
+                written++;
+            }
+            if (buffer.remaining() < 4) {
+                drain(out, buffer, crc);
+            }
+            buffer.putInt(written);
+            drain(out, buffer, crc);
+            buffer.putInt((int) crc.getValue()).flip();
+            out.write(buffer);
+            out.force(true);
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        String name = target.getFileName().toString();   // zero-padded, so names sort by LSN
+        for (Path old : list()) {
+            if (old.getFileName().toString().compareTo(name) < 0) Files.deleteIfExists(old);
+        }
+    }
+
+    /**
+     * Loads the newest snapshot into {@code sink}.
+     *
+     * @return the LSN the snapshot covers, or empty if there is none
+     * @throws IOException if the newest snapshot fails its checksum
+     */
+    public Optional<Long> load(Consumer<Accommodation> sink) throws IOException {
+        List<Path> snapshots = list();
+        if (snapshots.isEmpty()) return Optional.empty();
+
+        Path newest = snapshots.get(snapshots.size() - 1);
+        try (FileChannel ch = FileChannel.open(newest, StandardOpenOption.READ)) {
+            if (ch.size() < HEADER + 8) {
+                throw new IOException("corrupt snapshot: " + newest);
+            }
+            MappedByteBuffer in = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            int bodyLength = in.limit() - 4;
+            CRC32C crc = new CRC32C();
+            crc.update(in.slice(0, bodyLength));
+            if (in.getInt(0) != MAGIC || in.getInt(bodyLength) != (int) crc.getValue()) {
+                throw new IOException("corrupt snapshot: " + newest);
+            }
+            long lsn = in.getLong(4);
+            int count = in.getInt(bodyLength - 4);
+            ByteBuffer rooms = in.slice(HEADER, bodyLength - HEADER - 4);
+            for (int i = 0; i < count; i++) {
+                sink.accept(RoomRecords.read(rooms));
+            }
+            return Optional.of(lsn);
+        }
+    }
+
+    private List<Path> list() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(p -> p.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    private Path pathFor(long lsn) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, lsn, SUFFIX));
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,331 @@
+package accommodation.infrastructure.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Append-only, segmented log of room mutations with group commit.
+ * <p>
+ * Each record is {@code int length | int crc32c | long lsn | room}, where the CRC covers
+ * everything after it. Segments are named after the first LSN they hold and a new one is
+ * started once the current segment passes {@code segmentBytes}.
+ * <p>
+ * {@link #append} only encodes into an in-memory buffer and hands back the record's LSN;
+ * {@link #sync} makes it durable. Only one thread writes and fsyncs at a time, and it takes
+ * everything buffered so far, so callers that queue up behind an fsync usually find their
+ * record already covered by it and return without issuing their own.
+ */
+public final class WriteAheadLog implements Closeable {
+    private static final int RECORD_HEADER = 4 + 4;
+    private static final int INITIAL_BUFFER = 64 * 1024;
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+
+    private final Object appendLock = new Object();
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER);   // guarded by appendLock
+    private long lastLsn;                                                // guarded by appendLock
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER);     // guarded by syncLock
+    private final TreeMap<Long, Path> segments = new TreeMap<>();        // guarded by syncLock
+    private FileChannel active;                                          // guarded by syncLock
+    private volatile long durableLsn;
+    private volatile boolean closed;
+
+    private WriteAheadLog(Path directory, long segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Opens the log in {@code directory}, replaying every intact record with an LSN above
+     * {@code afterLsn} into {@code sink}. Replay stops at the first torn or corrupt record;
+     * the log is cut back to the last good record and appends continue from there.
+     *
+     * @param afterLsn LSN already covered by a snapshot, or 0 to replay everything
+     */
+    public static WriteAheadLog open(Path directory, long segmentBytes, long afterLsn,
+                                     Consumer<Accommodation> sink) throws IOException {
+        if (segmentBytes <= 0) {
+            throw new IllegalArgumentException("segment size must be positive");
+        }
+        Files.createDirectories(directory);
+        WriteAheadLog log = new WriteAheadLog(directory, segmentBytes);
+        log.recover(afterLsn, sink);
+        return log;
+    }
+
+    /** Buffers a record and returns its LSN. The record is not durable until {@link #sync}. */
+    public long append(Accommodation accommodation) {
+        int payload = 8 + RoomRecords.sizeOf(accommodation);
+        synchronized (appendLock) {
+            ensureOpen();
+            if (pending.remaining() < RECORD_HEADER + payload) {
+                pending = grow(pending, RECORD_HEADER + payload);
+            }
+            return put(accommodation, payload);
+        }
+    }
+
+    /**
+     * Buffers a batch and returns the LSN of its last record. Every room is sized before any
+     * is buffered, so a room that cannot be encoded rejects the whole batch.
+     */
+    public long appendAll(Collection<Accommodation> accommodations) {
+        int[] payloads = new int[accommodations.size()];
+        int total = 0;
+        int i = 0;
+        for (Accommodation accommodation : accommodations) {
+            payloads[i] = 8 + RoomRecords.sizeOf(accommodation);
+            total += RECORD_HEADER + payloads[i++];
+        }
+        synchronized (appendLock) {
+            ensureOpen();
+            if (pending.remaining() < total) {
+                pending = grow(pending, total);
+            }
+            i = 0;
+            for (Accommodation accommodation : accommodations) {
+                put(accommodation, payloads[i++]);
+            }
+            return lastLsn;
+        }
+    }
+
+    /** Blocks until every record up to and including {@code lsn} has been forced to disk. */
+    public void sync(long lsn) {
+        if (durableLsn >= lsn) return;
+        syncLock.lock();
+        try {
+            if (durableLsn >= lsn) return;   // covered by the fsync we were queued behind
+
+            ByteBuffer batch;
+            long upTo;
+            synchronized (appendLock) {
+                ensureOpen();
+                batch = pending;
+                pending = spare;
+                upTo = lastLsn;
+            }
+            batch.flip();
+            while (batch.hasRemaining()) {
+                active.write(batch);
+            }
+            active.force(false);
+            batch.clear();
+            spare = batch;
+            durableLsn = upTo;
+
+            if (active.size() >= segmentBytes) {
+                roll(upTo + 1);
+            }
+        } catch (IOException e) {
+            closed = true;   // the swapped-out batch is lost, refuse further appends
+            throw new UncheckedIOException("write-ahead log sync failed", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /** LSN of the most recently appended record, durable or not. */
+    public long lastLsn() {
+        synchronized (appendLock) {
+            return lastLsn;
+        }
+    }
+
+    public long durableLsn() {
+        return durableLsn;
+    }
+
+    /**
+     * Deletes segments whose records are all at or below {@code lsn}. The active segment is
+     * never deleted.
+     */
+    public void truncateUpTo(long lsn) {
+        syncLock.lock();
+        try {
+            List<Path> obsolete = new ArrayList<>();
+            Long next = segments.higherKey(segments.firstKey());
+            while (next != null && next <= lsn + 1) {
+                obsolete.add(segments.pollFirstEntry().getValue());
+                next = segments.higherKey(segments.firstKey());
+            }
+            for (Path segment : obsolete) {
+                Files.deleteIfExists(segment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not delete log segment", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /** Number of segment files currently on disk. */
+    public int segmentCount() {
+        syncLock.lock();
+        try {
+            return segments.size();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /** Flushes anything still buffered, then closes the active segment. */
+    @Override public void close() throws IOException {
+        if (closed) return;
+        sync(lastLsn());
+        syncLock.lock();
+        try {
+            closed = true;
+            active.close();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /* ---------- recovery ---------- */
+
+    private void recover(long afterLsn, Consumer<Accommodation> sink) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(WriteAheadLog::isSegment)
+                 .forEach(p -> segments.put(firstLsnOf(p), p));
+        }
+
+        long last = afterLsn;
+        boolean truncated = false;
+        for (Map.Entry<Long, Path> entry : new ArrayList<>(segments.entrySet())) {
+            Path segment = entry.getValue();
+            if (truncated) {
+                Files.delete(segment);
+                segments.remove(entry.getKey());
+                continue;
+            }
+            Long next = segments.higherKey(entry.getKey());
+            if (next != null && next <= afterLsn + 1) {
+                continue;   // wholly covered by the snapshot, nothing to replay
+            }
+            long[] cursor = {entry.getKey() - 1};
+            long validBytes = replaySegment(segment, cursor, afterLsn, sink);
+            if (validBytes < Files.size(segment)) {
+                try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                    ch.truncate(validBytes);
+                    ch.force(true);
+                }
+                truncated = true;
+            }
+            if (validBytes == 0) {
+                Files.delete(segment);
+                segments.remove(entry.getKey());
+            }
+            last = Math.max(last, cursor[0]);
+        }
+
+        lastLsn = last;
+        durableLsn = last;
+        roll(last + 1);
+    }
+
+    /** @return number of leading bytes that hold intact, in-sequence records */
+    private static long replaySegment(Path segment, long[] cursor, long afterLsn,
+                                      Consumer<Accommodation> sink) throws IOException {
+        try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer in = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            while (in.remaining() >= RECORD_HEADER) {
+                int start = in.position();
+                int payload = in.getInt();
+                int crc = in.getInt();
+                if (payload < 8 || payload > in.remaining()
+                        || crc != crc(in, start + RECORD_HEADER, payload)) {
+                    return start;
+                }
+                long lsn = in.getLong();
+                if (lsn != cursor[0] + 1) {
+                    return start;
+                }
+                Accommodation room;
+                try {
+                    room = RoomRecords.read(in.slice(in.position(), payload - 8));
+                } catch (RuntimeException e) {
+                    return start;
+                }
+                in.position(start + RECORD_HEADER + payload);
+                cursor[0] = lsn;
+                if (lsn > afterLsn) sink.accept(room);
+            }
+            return in.position();
+        }
+    }
+
+    /* ---------- internals ---------- */
+
+    /** Caller holds syncLock (or is still recovering). */
+    private void roll(long firstLsn) throws IOException {
+        if (active != null) active.close();
+        Path path = directory.resolve(String.format("%s%020d%s", PREFIX, firstLsn, SUFFIX));
+        active = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segments.put(firstLsn, path);
+    }
+
+    private long put(Accommodation accommodation, int payload) {   // caller holds appendLock
+        long lsn = ++lastLsn;
+        int start = pending.position();
+        pending.putInt(payload);
+        pending.putInt(0);
+        pending.putLong(lsn);
+        RoomRecords.write(pending, accommodation);
+        pending.putInt(start + 4, crc(pending, start + RECORD_HEADER, payload));
+        return lsn;
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int extra) {
+        int capacity = buffer.capacity();
+        while (capacity - buffer.position() < extra) capacity *= 2;
+        ByteBuffer grown = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static long firstLsnOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("write-ahead log is closed");
+    }
+}
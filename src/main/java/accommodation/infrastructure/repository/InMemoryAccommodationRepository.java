@@ -1,18 +1,77 @@
 package accommodation.infrastructure.repository;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
 
 import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
 import accommodation.domain.repository.AccommodationRepository;
 
-
+/**
+ * In-memory repository with secondary indexes by {@link RoomType}, by price and by room
+ * number order (for paging and streaming).
+ * <p>
+ * The number index doubles as the record of which version of each room is indexed. Index
+ * entries of a room only change inside a {@link ConcurrentHashMap#compute} on its number,
+ * which swaps the indexed version for the stored one, so concurrent saves of the same room
+ * cannot leave stale index entries behind. Type and price buckets hold room numbers and
+ * resolve them against the primary map when read. Index reads are weakly consistent, like
+ * {@link #findAll()}: a room being re-typed or re-priced may briefly show up in neither of
+ * its old and new buckets.
+ */
 public final class InMemoryAccommodationRepository implements AccommodationRepository {
-    private final ConcurrentHashMap<Integer, Accommodation> store = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Accommodation> store;
+    private final ConcurrentSkipListMap<Integer, Accommodation> byNumber = new ConcurrentSkipListMap<>();
+    private final Map<RoomType, Set<Integer>> byType = new EnumMap<>(RoomType.class);
+    // Buckets are never removed once created: the set of distinct prices is small, and
+    // removing an empty bucket would race with a concurrent insert into it.
+    private final ConcurrentSkipListMap<BigDecimal, Set<Integer>> byPrice = new ConcurrentSkipListMap<>();
+
+    public InMemoryAccommodationRepository() {
+        this(16);
+    }
+
+    /** @param expectedRooms number of rooms to size the primary map for up front */
+    public InMemoryAccommodationRepository(int expectedRooms) {
+        this.store = new ConcurrentHashMap<>(expectedRooms);
+        for (RoomType type : RoomType.values()) {
+            byType.put(type, ConcurrentHashMap.newKeySet());
+        }
+    }
 
     @Override public void save(Accommodation accommodation) {
-        store.put(accommodation.getNumber(), accommodation);
+        store.compute(accommodation.getNumber(), (number, previous) -> {
+            reindex(accommodation);
+            return accommodation;
+        });
+    }
+
+    @Override public Accommodation saveIfAbsent(Accommodation accommodation) {
+        return store.computeIfAbsent(accommodation.getNumber(), number -> {
+            reindex(accommodation);
+            return accommodation;
+        });
+    }
+
+    @Override public boolean replace(Accommodation expected, Accommodation replacement) {
+        AccommodationRepository.checkSameRoom(expected, replacement);
+        boolean[] replaced = new boolean[1];
+        store.computeIfPresent(expected.getNumber(), (number, current) -> {
+            if (!current.equals(expected)) return current;
+            reindex(replacement);
+            replaced[0] = true;
+            return replacement;
+        });
+        return replaced[0];
     }
 
     @Override public Optional<Accommodation> findByNumber(int roomNumber) {
@@ -22,4 +81,87 @@ public final class InMemoryAccommodationRepository implements AccommodationRepos
     @Override public Collection<Accommodation> findAll() {
         return store.values();
     }
+
+    @Override public int size() {
+        return store.size();
+    }
+
+    /**
+     * One {@code compute} per room, exactly like {@link #save}, so each room and its index
+     * entries become visible together. Size the repository up front with
+     * {@link #InMemoryAccommodationRepository(int)} to avoid resizing during large batches.
+     */
+    @Override public void saveAll(Collection<Accommodation> accommodations) {
+        for (Accommodation accommodation : accommodations) {
+            save(accommodation);
+        }
+    }
+
+    @Override public List<Accommodation> findAllByNumbers(int[] roomNumbers) {
+        List<Accommodation> found = new ArrayList<>(roomNumbers.length);
+        for (int roomNumber : roomNumbers) {
+            Accommodation room = store.get(roomNumber);
+            if (room != null) found.add(room);
+        }
+        return found;
+    }
+
+    /** Walks the number index from {@code afterRoomNumber}; touches at most {@code limit} rooms. */
+    @Override public List<Accommodation> findAll(int afterRoomNumber, int limit) {
+        if (limit < 0) throw new IllegalArgumentException("limit must not be negative");
+        List<Accommodation> page = new ArrayList<>(Math.min(limit, 1024));
+        for (Accommodation room : byNumber.tailMap(afterRoomNumber, false).values()) {
+            if (page.size() == limit) break;
+            page.add(room);
+        }
+        return page;
+    }
+
+    /** Lazy, ordered and weakly consistent; the skip-list spliterator splits for parallel streams. */
+    @Override public Stream<Accommodation> streamAll() {
+        return byNumber.values().stream();
+    }
+
+    @Override public Collection<Accommodation> findByType(RoomType type) {
+        Set<Integer> numbers = byType.get(type);
+        List<Accommodation> found = new ArrayList<>(numbers.size());
+        for (Integer number : numbers) {
+            Accommodation room = store.get(number);
+            if (room != null && room.getType() == type) found.add(room);
+        }
+        return found;
+    }
+
+    @Override public long countByType(RoomType type) {
+        return byType.get(type).size();
+    }
+
+    /** Walks only the price buckets inside the range. */
+    @Override public List<Accommodation> findByPriceBetween(BigDecimal minInclusive, BigDecimal maxInclusive) {
+        List<Accommodation> found = new ArrayList<>();
+        if (minInclusive.compareTo(maxInclusive) > 0) return found;
+        for (Map.Entry<BigDecimal, Set<Integer>> bucket : byPrice.subMap(minInclusive, true, maxInclusive, true).entrySet()) {
+            for (Integer number : bucket.getValue()) {
+                Accommodation room = store.get(number);
+                if (room != null && room.getPricePerMonth().compareTo(bucket.getKey()) == 0) found.add(room);
+            }
+        }
+        return found;
+    }
+
+    /* ---------- index maintenance, called inside compute() for the room ---------- */
+
+    /** Replaces whichever version of the room is indexed with {@code accommodation}. */
+    private void reindex(Accommodation accommodation) {
+        int number = accommodation.getNumber();
+        Accommodation indexed = byNumber.put(number, accommodation);
+        if (indexed == accommodation) return;
+        if (indexed != null) {
+            byType.get(indexed.getType()).remove(number);
+            Set<Integer> bucket = byPrice.get(indexed.getPricePerMonth());
+            if (bucket != null) bucket.remove(number);
+        }
+        byType.get(accommodation.getType()).add(number);
+        byPrice.computeIfAbsent(accommodation.getPricePerMonth(), price -> ConcurrentHashMap.newKeySet()).add(number);
+    }
 }
@@ -0,0 +1,380 @@
+package accommodation.infrastructure.repository;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * File-backed repository that keeps one fixed-width record per room in a memory-mapped file.
+ * <p>
+ * The record for room {@code n} lives at byte offset {@code n * RECORD_SIZE}, so a save or a
+ * lookup is a single positioned access into the mapping and reopening the file only reads the
+ * header; the rooms themselves are paged in by the OS on demand. Room numbers are always
+ * positive, which leaves slot 0 free for the header.
+ *
+ * <pre>
+ * record (16 bytes): int number | byte type ordinal | byte unused | short price scale | long unscaled price
+ * header (slot 0):   int magic  | short version | short record size | int room count | int highest number
+ * </pre>
+ *
+ * An empty slot has number 0. Prices must have an unscaled value that fits in a {@code long}
+ * and a scale that fits in a {@code short}. Writers serialize on a {@link StampedLock};
+ * readers use optimistic reads and only fall back to the read lock when a write raced them.
+ */
+public final class MappedAccommodationRepository implements AccommodationRepository, Closeable, Flushable {
+    public static final int RECORD_SIZE = 16;
+    public static final int MAX_ROOM_NUMBER = Integer.MAX_VALUE / RECORD_SIZE - 1;
+
+    private static final int MAGIC = 0x55574541; // "UWEA"
+    private static final short VERSION = 1;
+    private static final int DEFAULT_ROOMS = 1 << 12;
+
+    private static final int NUMBER_OFFSET = 0;
+    private static final int TYPE_OFFSET = 4;
+    private static final int SCALE_OFFSET = 6;
+    private static final int UNSCALED_OFFSET = 8;
+
+    private static final int HEADER_COUNT_OFFSET = 8;
+    private static final int HEADER_HIGHEST_OFFSET = 12;
+
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final FileChannel channel;
+    private final StampedLock lock = new StampedLock();
+    private volatile MappedByteBuffer buffer;
+    private volatile boolean closed;
+
+    /** Opens (or creates) the room file at {@code file}. */
+    public MappedAccommodationRepository(Path file) throws IOException {
+        this(file, DEFAULT_ROOMS);
+    }
+
+    /**
+     * @param initialRooms highest room number the new mapping should cover before it has to grow;
+     *                     ignored if the existing file is already larger
+     */
+    public MappedAccommodationRepository(Path file, int initialRooms) throws IOException {
+        if (initialRooms <= 0 || initialRooms > MAX_ROOM_NUMBER) {
+            throw new IllegalArgumentException("initial rooms must be in [1, " + MAX_ROOM_NUMBER + "]");
+        }
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long existing = channel.size();
+            long wanted = Math.max(existing, (initialRooms + 1L) * RECORD_SIZE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, wanted);
+            if (existing == 0) {
+                writeHeader();
+            } else {
+                checkHeader(file);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override public void save(Accommodation accommodation) {
+        checkFits(accommodation);
+        long stamp = lock.writeLock();
+        try {
+            ensureOpen();
+            ensureMapped(accommodation.getNumber());
+            write(buffer, accommodation);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override public Accommodation saveIfAbsent(Accommodation accommodation) {
+        checkFits(accommodation);
+        long stamp = lock.writeLock();
+        try {
+            ensureOpen();
+            ensureMapped(accommodation.getNumber());
+            Accommodation existing = read(buffer, accommodation.getNumber());
+            if (existing != null) return existing;
+            write(buffer, accommodation);
+            return accommodation;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override public boolean replace(Accommodation expected, Accommodation replacement) {
+        AccommodationRepository.checkSameRoom(expected, replacement);
+        checkFits(replacement);
+        long stamp = lock.writeLock();
+        try {
+            ensureOpen();
+            Accommodation current = read(buffer, expected.getNumber());
+            if (current == null || !current.equals(expected)) return false;
+            write(buffer, replacement);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * One lock acquisition and at most one remap for the whole batch. Every room is checked
+     * first, so a room that does not fit a record rejects the batch before anything is written.
+     */
+    @Override public void saveAll(Collection<Accommodation> accommodations) {
+        int highest = 0;
+        for (Accommodation accommodation : accommodations) {
+            checkFits(accommodation);
+            highest = Math.max(highest, accommodation.getNumber());
+        }
+        if (highest == 0) return;
+        long stamp = lock.writeLock();
+        try {
+            ensureOpen();
+            ensureMapped(highest);
+            MappedByteBuffer b = buffer;
+            for (Accommodation accommodation : accommodations) {
+                write(b, accommodation);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override public Optional<Accommodation> findByNumber(int roomNumber) {
+        ensureOpen();
+        if (roomNumber <= 0 || roomNumber > MAX_ROOM_NUMBER) return Optional.empty();
+        return Optional.ofNullable(readConsistent(roomNumber));
+    }
+
+    /** Snapshot of all rooms in room-number order. */
+    @Override public Collection<Accommodation> findAll() {
+        long stamp = lock.readLock();
+        try {
+            ensureOpen();
+            MappedByteBuffer b = buffer;
+            List<Accommodation> rooms = new ArrayList<>(b.getInt(HEADER_COUNT_OFFSET));
+            int highest = b.getInt(HEADER_HIGHEST_OFFSET);
+            for (int n = 1; n <= highest; n++) {
+                Accommodation room = read(b, n);
+                if (room != null) rooms.add(room);
+            }
+            return Collections.unmodifiableList(rooms);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Slots are laid out by room number, so a page is a forward scan from {@code afterRoomNumber}. */
+    @Override public List<Accommodation> findAll(int afterRoomNumber, int limit) {
+        if (limit < 0) throw new IllegalArgumentException("limit must not be negative");
+        ensureOpen();
+        List<Accommodation> page = new ArrayList<>(Math.min(limit, 1024));
+        int highest = buffer.getInt(HEADER_HIGHEST_OFFSET);
+        for (int n = Math.max(afterRoomNumber, 0) + 1; n <= highest && page.size() < limit; n++) {
+            Accommodation room = readConsistent(n);
+            if (room != null) page.add(room);
+        }
+        return page;
+    }
+
+    /**
+     * Lazily reads slots {@code 1..highest} (highest as of this call) in order. The
+     * spliterator splits by halving the slot range, so parallel streams fan out evenly.
+     */
+    @Override public Stream<Accommodation> streamAll() {
+        ensureOpen();
+        return StreamSupport.stream(new SlotSpliterator(1, buffer.getInt(HEADER_HIGHEST_OFFSET) + 1), false);
+    }
+
+    /** Number of rooms stored, read from the header. */
+    @Override public int size() {
+        ensureOpen();
+        return buffer.getInt(HEADER_COUNT_OFFSET);
+    }
+
+    /** Flushes dirty pages to the storage device. */
+    public void force() {
+        long stamp = lock.readLock();
+        try {
+            ensureOpen();
+            buffer.force();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Same as {@link #force()}. */
+    @Override public void flush() {
+        force();
+    }
+
+    @Override public void close() throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            if (closed) return;
+            buffer.force();
+            closed = true;
+            channel.close();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /* ---------- record layout ---------- */
+
+    private Accommodation readConsistent(int roomNumber) {
+        long stamp = lock.tryOptimisticRead();
+        Accommodation found = read(buffer, roomNumber);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = read(buffer, roomNumber);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    private static Accommodation read(MappedByteBuffer b, int roomNumber) {
+        long offset = (long) roomNumber * RECORD_SIZE;
+        if (offset + RECORD_SIZE > b.capacity()) return null;
+        int at = (int) offset;
+        if (b.getInt(at + NUMBER_OFFSET) != roomNumber) return null;
+        RoomType type = TYPES[b.get(at + TYPE_OFFSET)];
+        BigDecimal price = BigDecimal.valueOf(b.getLong(at + UNSCALED_OFFSET), b.getShort(at + SCALE_OFFSET));
+        return new Accommodation(roomNumber, type, price);
+    }
+
+    private static void checkFits(Accommodation accommodation) {
+        int number = accommodation.getNumber();
+        if (number <= 0 || number > MAX_ROOM_NUMBER) {
+            throw new IllegalArgumentException("room number out of range: " + number);
+        }
+        BigDecimal price = accommodation.getPricePerMonth();
+        if (price.scale() < Short.MIN_VALUE || price.scale() > Short.MAX_VALUE
+                || price.unscaledValue().bitLength() > 63) {
+            throw new IllegalArgumentException("price does not fit a fixed-width record: " + price);
+        }
+    }
+
+    /** Caller holds the write lock, has mapped far enough for the room and checked it fits. */
+    private static void write(MappedByteBuffer b, Accommodation accommodation) {
+        int number = accommodation.getNumber();
+        BigDecimal price = accommodation.getPricePerMonth();
+        int at = number * RECORD_SIZE;
+        boolean added = b.getInt(at + NUMBER_OFFSET) == 0;
+
+        b.put(at + TYPE_OFFSET, (byte) accommodation.getType().ordinal());
+        b.putShort(at + SCALE_OFFSET, (short) price.scale());
+        b.putLong(at + UNSCALED_OFFSET, price.unscaledValue().longValue());
+        b.putInt(at + NUMBER_OFFSET, number);
+
+        if (added) {
+            b.putInt(HEADER_COUNT_OFFSET, b.getInt(HEADER_COUNT_OFFSET) + 1);
+            if (number > b.getInt(HEADER_HIGHEST_OFFSET)) {
+                b.putInt(HEADER_HIGHEST_OFFSET, number);
+            }
+        }
+    }
+
+    /** Caller holds the write lock. Doubles the mapping until it covers {@code roomNumber}. */
+    private void ensureMapped(int roomNumber) {
+        if (roomNumber <= 0 || roomNumber > MAX_ROOM_NUMBER) {
+            throw new IllegalArgumentException("room number out of range: " + roomNumber);
+        }
+        long needed = (roomNumber + 1L) * RECORD_SIZE;
+        long mapped = buffer.capacity();
+        if (needed <= mapped) return;
+
+        long grown = mapped;
+        while (grown < needed) grown *= 2;
+        grown = Math.min(grown, (MAX_ROOM_NUMBER + 1L) * RECORD_SIZE);
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, grown);
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not grow room file", e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("repository is closed");
+    }
+
+    private void writeHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putShort(4, VERSION);
+        buffer.putShort(6, (short) RECORD_SIZE);
+        buffer.putInt(HEADER_COUNT_OFFSET, 0);
+        buffer.putInt(HEADER_HIGHEST_OFFSET, 0);
+    }
+
+    private void checkHeader(Path file) throws IOException {
+        if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION
+                || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IOException("not a room file (or unsupported version): " + file);
+        }
+    }
+
+    private final class SlotSpliterator implements Spliterator<Accommodation> {
+        private int next;
+        private final int end;
+
+        SlotSpliterator(int from, int end) {
+            this.next = from;
+            this.end = end;
+        }
+
+        @Override public boolean tryAdvance(Consumer<? super Accommodation> action) {
+            while (next < end) {
+                Accommodation room = readConsistent(next++);
+                if (room != null) {
+                    action.accept(room);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override public Spliterator<Accommodation> trySplit() {
+            int mid = (next + end) >>> 1;
+            if (mid - next < 1024) return null;
+            SlotSpliterator prefix = new SlotSpliterator(next, mid);
+            next = mid;
+            return prefix;
+        }
+
+        @Override public long estimateSize() {
+            return end - next;
+        }
+
+        @Override public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | NONNULL;
+        }
+
+        @Override public Comparator<? super Accommodation> getComparator() {
+            return Comparator.comparingInt(Accommodation::getNumber);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package accommodation.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.domain.repository.RoomChangeListener;
+
+/**
+ * Repository decorator that tells {@link RoomChangeListener}s about every stored room, along
+ * with the room it replaced, so derived views can be maintained incrementally.
+ * <p>
+ * Each save looks up the previous room, stores the new one and notifies listeners under a
+ * lock striped by room number: saves of different rooms proceed in parallel, saves of the
+ * same room are seen by listeners in the order they were applied. With no listeners the
+ * lookup is skipped. A batch locks the stripes it touches in index order, saves through the
+ * delegate's {@code saveAll} and then notifies room by room.
+ * <p>
+ * {@link #addListener} briefly locks every stripe and replays the current rooms to the new
+ * listener as inserts, so it misses nothing and sees nothing twice. Reads pass straight
+ * through.
+ */
+public final class ObservableAccommodationRepository implements AccommodationRepository {
+    private final AccommodationRepository delegate;
+    private final StripedRoomLocks locks = new StripedRoomLocks();
+    private final CopyOnWriteArrayList<RoomChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public ObservableAccommodationRepository(AccommodationRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    /** Replays every stored room to {@code listener}, then keeps it informed of saves. */
+    public void addListener(RoomChangeListener listener) {
+        locks.lockAll();
+        try {
+            delegate.streamAll().forEach(room -> listener.onSave(null, room));
+            listeners.add(listener);
+        } finally {
+            locks.unlockAll();
+        }
+    }
+
+    public void removeListener(RoomChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override public void save(Accommodation accommodation) {
+        ReentrantLock stripe = locks.forRoom(accommodation.getNumber());
+        stripe.lock();
+        try {
+            if (listeners.isEmpty()) {
+                delegate.save(accommodation);
+                return;
+            }
+            Accommodation previous = delegate.findByNumber(accommodation.getNumber()).orElse(null);
+            delegate.save(accommodation);
+            fire(previous, accommodation);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override public Accommodation saveIfAbsent(Accommodation accommodation) {
+        ReentrantLock stripe = locks.forRoom(accommodation.getNumber());
+        stripe.lock();
+        try {
+            Accommodation winner = delegate.saveIfAbsent(accommodation);
+            if (winner == accommodation) fire(null, accommodation);
+            return winner;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override public boolean replace(Accommodation expected, Accommodation replacement) {
+        ReentrantLock stripe = locks.forRoom(replacement.getNumber());
+        stripe.lock();
+        try {
+            if (listeners.isEmpty()) return delegate.replace(expected, replacement);
+            Accommodation previous = delegate.findByNumber(replacement.getNumber()).orElse(null);
+            if (!delegate.replace(expected, replacement)) return false;
+            fire(previous, replacement);
+            return true;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override public void saveAll(Collection<Accommodation> accommodations) {
+        boolean[] touched = locks.lock(accommodations);
+        try {
+            if (listeners.isEmpty()) {
+                delegate.saveAll(accommodations);
+                return;
+            }
+            // later rooms in the batch replace earlier ones with the same number
+            Map<Integer, Accommodation> latest = new HashMap<>();
+            Accommodation[] previous = new Accommodation[accommodations.size()];
+            int i = 0;
+            for (Accommodation accommodation : accommodations) {
+                Accommodation earlier = latest.put(accommodation.getNumber(), accommodation);
+                previous[i++] = earlier != null ? earlier
+                        : delegate.findByNumber(accommodation.getNumber()).orElse(null);
+            }
+            delegate.saveAll(accommodations);
+            i = 0;
+            for (Accommodation accommodation : accommodations) {
+                fire(previous[i++], accommodation);
+            }
+        } finally {
+            locks.unlock(touched);
+        }
+    }
+
+    @Override public Optional<Accommodation> findByNumber(int roomNumber) {
+        return delegate.findByNumber(roomNumber);
+    }
+
+    @Override public Collection<Accommodation> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override public int size() {
+        return delegate.size();
+    }
+
+    @Override public List<Accommodation> findAllByNumbers(int[] roomNumbers) {
+        return delegate.findAllByNumbers(roomNumbers);
+    }
+
+    @Override public List<Accommodation> findAll(int afterRoomNumber, int limit) {
+        return delegate.findAll(afterRoomNumber, limit);
+    }
+
+    @Override public Stream<Accommodation> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override public Collection<Accommodation> findByType(RoomType type) {
+        return delegate.findByType(type);
+    }
+
+    @Override public long countByType(RoomType type) {
+        return delegate.countByType(type);
+    }
+
+    @Override public List<Accommodation> findByPriceBetween(BigDecimal minInclusive, BigDecimal maxInclusive) {
+        return delegate.findByPriceBetween(minInclusive, maxInclusive);
+    }
+
+    private void fire(Accommodation previous, Accommodation current) {
+        for (RoomChangeListener listener : listeners) {
+            listener.onSave(previous, current);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package accommodation.infrastructure.repository;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.repository.AccommodationRepository;
+
+/**
+ * Repository backed by an open-addressing table keyed on the primitive room number.
+ * <p>
+ * Slots hold the {@link Accommodation} itself and the key is read back from
+ * {@link Accommodation#getNumber()}, so there is no boxed {@code Integer} and no map node
+ * per room. Lookups are lock-free: they probe the currently published table with volatile
+ * reads. Writers serialize on a single lock, insert with linear probing and publish a
+ * doubled table when the load factor is exceeded. Rooms are never removed, so a probe
+ * sequence can always stop at the first empty slot.
+ */
+public final class PrimitiveAccommodationRepository implements AccommodationRepository {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile AtomicReferenceArray<Accommodation> table;
+    private volatile int size;
+    private volatile int resizes;
+
+    public PrimitiveAccommodationRepository() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** @param expectedRooms number of rooms to size the table for up front */
+    public PrimitiveAccommodationRepository(int expectedRooms) {
+        if (expectedRooms < 0) {
+            throw new IllegalArgumentException("expected rooms must not be negative");
+        }
+        this.table = new AtomicReferenceArray<>(tableSizeFor(expectedRooms));
+    }
+
+    @Override public void save(Accommodation accommodation) {
+        writeLock.lock();
+        try {
+            ensureCapacity(size + 1);
+            if (insert(table, accommodation)) {
+                size++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public Accommodation saveIfAbsent(Accommodation accommodation) {
+        writeLock.lock();
+        try {
+            Accommodation existing = get(accommodation.getNumber());
+            if (existing != null) return existing;
+            ensureCapacity(size + 1);
+            insert(table, accommodation);
+            size++;
+            return accommodation;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public boolean replace(Accommodation expected, Accommodation replacement) {
+        AccommodationRepository.checkSameRoom(expected, replacement);
+        writeLock.lock();
+        try {
+            Accommodation current = get(expected.getNumber());
+            if (current == null || !current.equals(expected)) return false;
+            insert(table, replacement);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** One lock acquisition and at most one resize for the whole batch. */
+    @Override public void saveAll(Collection<Accommodation> accommodations) {
+        writeLock.lock();
+        try {
+            ensureCapacity(size + accommodations.size());
+            AtomicReferenceArray<Accommodation> t = table;
+            int added = 0;
+            for (Accommodation accommodation : accommodations) {
+                if (insert(t, accommodation)) added++;
+            }
+            size += added;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public List<Accommodation> findAllByNumbers(int[] roomNumbers) {
+        List<Accommodation> found = new ArrayList<>(roomNumbers.length);
+        for (int roomNumber : roomNumbers) {
+            Accommodation room = get(roomNumber);
+            if (room != null) found.add(room);
+        }
+        return found;
+    }
+
+    @Override public Optional<Accommodation> findByNumber(int roomNumber) {
+        return Optional.ofNullable(get(roomNumber));
+    }
+
+    /** Same as {@link #findByNumber(int)} without the {@code Optional}; {@code null} when absent. */
+    public Accommodation get(int roomNumber) {
+        AtomicReferenceArray<Accommodation> t = table;
+        int mask = t.length() - 1;
+        for (int i = indexFor(roomNumber, mask); ; i = (i + 1) & mask) {
+            Accommodation slot = t.get(i);
+            if (slot == null) return null;
+            if (slot.getNumber() == roomNumber) return slot;
+        }
+    }
+
+    @Override public Collection<Accommodation> findAll() {
+        return new TableView();
+    }
+
+    @Override public int size() {
+        return size;
+    }
+
+    /**
+     * The table is unordered, so a page costs one scan of the table; only the {@code limit}
+     * lowest matching rooms are held (in a bounded max-heap) while scanning.
+     */
+    @Override public List<Accommodation> findAll(int afterRoomNumber, int limit) {
+        if (limit < 0) throw new IllegalArgumentException("limit must not be negative");
+        if (limit == 0) return new ArrayList<>();
+        Comparator<Accommodation> byNumber = Comparator.comparingInt(Accommodation::getNumber);
+        PriorityQueue<Accommodation> lowest = new PriorityQueue<>(Math.min(limit, 1024), byNumber.reversed());
+        AtomicReferenceArray<Accommodation> t = table;
+        for (int i = 0; i < t.length(); i++) {
+            Accommodation room = t.get(i);
+            if (room == null || room.getNumber() <= afterRoomNumber) continue;
+            if (lowest.size() < limit) {
+                lowest.add(room);
+            } else if (room.getNumber() < lowest.peek().getNumber()) {
+                lowest.poll();
+                lowest.add(room);
+            }
+        }
+        List<Accommodation> page = new ArrayList<>(lowest);
+        page.sort(byNumber);
+        return page;
+    }
+
+    /**
+     * Number order needs a sort, but not of the rooms: one {@code number << 32 | slot} key per
+     * occupied slot is sorted as a primitive array and rooms are read from their slots as the
+     * stream is consumed.
+     */
+    @Override public Stream<Accommodation> streamAll() {
+        AtomicReferenceArray<Accommodation> t = table;
+        long[] keys = new long[Math.max(size, 16)];
+        int count = 0;
+        for (int i = 0; i < t.length(); i++) {
+            Accommodation room = t.get(i);
+            if (room == null) continue;
+            if (count == keys.length) keys = Arrays.copyOf(keys, count * 2);
+            keys[count++] = (long) room.getNumber() << 32 | i;
+        }
+        Arrays.sort(keys, 0, count);
+        return Arrays.stream(keys, 0, count).mapToObj(key -> t.get((int) key));
+    }
+
+    /** Current number of table slots; exposed for sizing diagnostics. */
+    public int capacity() {
+        return table.length();
+    }
+
+    /** Number of times the table has been grown since construction. */
+    public int resizeCount() {
+        return resizes;
+    }
+
+    /* ---------- internals, callers hold writeLock ---------- */
+
+    private void ensureCapacity(int required) {
+        AtomicReferenceArray<Accommodation> old = table;
+        if (required <= old.length() * LOAD_FACTOR) return;
+
+        AtomicReferenceArray<Accommodation> grown = new AtomicReferenceArray<>(tableSizeFor(required));
+        for (int i = 0; i < old.length(); i++) {
+            Accommodation room = old.get(i);
+            if (room != null) insert(grown, room);
+        }
+        table = grown;
+        resizes++;
+    }
+
+    /** @return {@code true} if a new slot was taken, {@code false} if an existing room was replaced */
+    private static boolean insert(AtomicReferenceArray<Accommodation> t, Accommodation room) {
+        int mask = t.length() - 1;
+        int number = room.getNumber();
+        for (int i = indexFor(number, mask); ; i = (i + 1) & mask) {
+            Accommodation slot = t.get(i);
+            if (slot == null) {
+                t.set(i, room);
+                return true;
+            }
+            if (slot.getNumber() == number) {
+                t.set(i, room);
+                return false;
+            }
+        }
+    }
+
+    private static int indexFor(int roomNumber, int mask) {
+        // room numbers are clustered (101, 102, ...), spread them before masking
+        int h = roomNumber * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int tableSizeFor(int rooms) {
+        int needed = (int) Math.ceil(Math.max(rooms, 1) / LOAD_FACTOR);
+        int n = Integer.highestOneBit(Math.max(needed - 1, 1)) << 1;
+        if (n <= 0) {
+            throw new IllegalArgumentException("too many rooms: " + rooms);
+        }
+        return Math.max(n, DEFAULT_CAPACITY);
+    }
+
+    /** Weakly consistent read-only view over whichever table is current when iteration starts. */
+    private final class TableView extends AbstractCollection<Accommodation> {
+        @Override public int size() {
+            return size;
+        }
+
+        @Override public Iterator<Accommodation> iterator() {
+            AtomicReferenceArray<Accommodation> t = table;
+            return new Iterator<>() {
+                private int index = advance(0);
+
+                private int advance(int from) {
+                    while (from < t.length() && t.get(from) == null) from++;
+                    return from;
+                }
+
+                @Override public boolean hasNext() {
+                    return index < t.length();
+                }
+
+                @Override public Accommodation next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    Accommodation room = t.get(index);
+                    index = advance(index + 1);
+                    return room;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package accommodation.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+import accommodation.domain.model.Accommodation;
+
+/**
+ * Fixed set of locks striped by room number, for decorators that must keep a lookup, a
+ * write and a notification of one room together without serialising unrelated rooms.
+ * <p>
+ * Batches and {@link #lockAll()} take stripes in ascending index order and release them in
+ * reverse, so any mix of single-room, batch and full locking cannot deadlock.
+ */
+public final class StripedRoomLocks {
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public StripedRoomLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /** The lock guarding {@code roomNumber}. */
+    public ReentrantLock forRoom(int roomNumber) {
+        return stripes[indexOf(roomNumber)];
+    }
+
+    /**
+     * Locks every stripe the batch touches.
+     *
+     * @return the stripes taken, to hand back to {@link #unlock(boolean[])}
+     */
+    public boolean[] lock(Collection<Accommodation> accommodations) {
+        boolean[] touched = new boolean[STRIPES];
+        for (Accommodation accommodation : accommodations) {
+            touched[indexOf(accommodation.getNumber())] = true;
+        }
+        for (int i = 0; i < STRIPES; i++) {
+            if (touched[i]) stripes[i].lock();
+        }
+        return touched;
+    }
+
+    public void unlock(boolean[] touched) {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            if (touched[i]) stripes[i].unlock();
+        }
+    }
+
+    public void lockAll() {
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    public void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+    private static int indexOf(int roomNumber) {
+        // room numbers are clustered (101, 102, ...), spread them before masking
+        int h = roomNumber * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -7,6 +7,7 @@ import accommodation.domain.factory.StandardAccommodationFactory;
 import accommodation.domain.factory.SuperiorAccommodationFactory;
 import accommodation.domain.model.Accommodation;
 import accommodation.domain.model.RoomType;
+import accommodation.domain.registry.RepositoryRegistryView;
 import accommodation.domain.repository.AccommodationRepository;
 import accommodation.domain.singleton.HallRegistry;
 import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
@@ -14,9 +15,16 @@ import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
 import org.junit.jupiter.api.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -149,4 +157,113 @@ class AccommodationServiceTest {
         assertNotNull(room802Registry, "Registry should contain room 802");
         assertEquals(802, room802Registry.getNumber(), "Room number should be 802");
     }
+
+    @Test
+    @DisplayName("createAccommodations() should persist and register the whole batch")
+    void createAccommodationsPersistsAndRegistersBatch() {
+        List<Accommodation> created = standardService.createAccommodations(IntStream.rangeClosed(901, 950));
+
+        AccommodationServiceImpl serviceImpl = (AccommodationServiceImpl) standardService;
+        assertAll("Bulk creation",
+                () -> assertEquals(50, created.size(), "One room per number"),
+                () -> assertEquals(50, standardService.listAll().size(), "Repository should contain the batch"),
+                () -> assertEquals(List.of(created.get(0), created.get(49)), repo.findAllByNumbers(new int[] {901, 999, 950}),
+                        "findAllByNumbers() should skip unknown numbers and keep request order"),
+                () -> assertEquals(created.get(10), serviceImpl.findByNumber(911), "Registry should contain the batch")
+        );
+    }
+
+    @Test
+    @DisplayName("The repository view should size its registry without copying the estate")
+    void repositoryViewSizeIsCheap() {
+        InMemoryAccommodationRepository store = new InMemoryAccommodationRepository();
+        store.save(new Accommodation(1003, RoomType.STANDARD, BigDecimal.valueOf(700)));
+        AccommodationRepository noCopies = new AccommodationRepository() {
+            @Override public void save(Accommodation accommodation) { store.save(accommodation); }
+            @Override public Optional<Accommodation> findByNumber(int roomNumber) { return store.findByNumber(roomNumber); }
+            @Override public Collection<Accommodation> findAll() { throw new AssertionError("findAll() copies the estate"); }
+            @Override public int size() { return store.size(); }
+        };
+
+        assertEquals(1, new RepositoryRegistryView(noCopies).all().size());
+    }
+
+    @Test
+    @DisplayName("unified() service should keep a single copy of every room")
+    void unifiedServiceUsesRepositoryAsSingleSource() {
+        AccommodationRepository store = new InMemoryAccommodationRepository();
+        AccommodationService unified = AccommodationServiceImpl.unified(new StandardAccommodationFactory(), store);
+
+        Accommodation created = unified.createAccommodation(1001);
+        store.save(new Accommodation(1002, RoomType.SUPERIOR, BigDecimal.valueOf(950)));
+
+        assertAll("Single source of truth",
+                () -> assertEquals(created, unified.findByNumber(1001)),
+                () -> assertEquals(RoomType.SUPERIOR, unified.findByNumber(1002).getType(),
+                        "Lookups should read through to the repository"),
+                () -> assertNull(HallRegistry.instance().find(1001), "Global registry should not be written"),
+                () -> assertEquals(2, unified.listAll().size())
+        );
+    }
+
+    @Test
+    @DisplayName("tryCreate() should report a conflict instead of overwriting")
+    void tryCreateReportsConflict() {
+        CreationResult first = standardService.tryCreate(1101);
+        CreationResult second = superiorService.tryCreate(1101);
+
+        AccommodationServiceImpl serviceImpl = (AccommodationServiceImpl) standardService;
+        assertAll("Create-once semantics",
+                () -> assertTrue(first.created()),
+                () -> assertTrue(second.conflict()),
+                () -> assertSame(first.accommodation(), second.accommodation(), "Loser should get the winner back"),
+                () -> assertEquals(RoomType.STANDARD, repo.findByNumber(1101).orElseThrow().getType()),
+                () -> assertEquals(RoomType.STANDARD, serviceImpl.findByNumber(1101).getType()),
+                () -> assertSame(first.accommodation(), superiorService.createIfAbsent(1101))
+        );
+    }
+
+    @Test
+    @DisplayName("A tryCreate() conflict should leave the winning room findable through the registry")
+    void conflictPublishesWinner() {
+        Accommodation stored = new Accommodation(1301, RoomType.SUPERIOR, BigDecimal.valueOf(990));
+        repo.save(stored);   // stored, but its creator has not reached the registry yet
+
+        CreationResult result = standardService.tryCreate(1301);
+
+        assertAll("Winner published",
+                () -> assertTrue(result.conflict()),
+                () -> assertSame(stored, result.accommodation()),
+                () -> assertSame(stored, ((AccommodationServiceImpl) standardService).findByNumber(1301))
+        );
+    }
+
+    @Test
+    @DisplayName("Concurrent tryCreate() calls for one number should produce exactly one winner")
+    void concurrentTryCreateHasSingleWinner() throws Exception {
+        final int threadCount = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<CreationResult>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            AccommodationService service = i % 2 == 0 ? standardService : superiorService;
+            results.add(executor.submit(() -> {
+                start.await();
+                return service.tryCreate(1201);
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        for (Future<CreationResult> result : results) {
+            if (result.get(10, TimeUnit.SECONDS).created()) created++;
+        }
+        executor.shutdown();
+
+        Accommodation winner = repo.findByNumber(1201).orElseThrow();
+        assertEquals(1, created, "Exactly one caller should create the room");
+        for (Future<CreationResult> result : results) {
+            assertSame(winner, result.get().accommodation(), "Every caller should see the same winner");
+        }
+    }
 }
@@ -0,0 +1,244 @@
+package accommodation.application;
+
+import accommodation.application.impl.AsyncAccommodationServiceImpl;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.domain.repository.AsyncAccommodationRepository;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Async Application Service Test")
+class AsyncAccommodationServiceTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final StandardAccommodationFactory factory = new StandardAccommodationFactory();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private AsyncAccommodationService offloading(InMemoryAccommodationRepository repository) {
+        return AsyncAccommodationServiceImpl.offloading(factory, repository,
+                ShardedHallRegistry.byRange(4, 100), executor, 64, 1_000);
+    }
+
+    @Test
+    @DisplayName("Async creation should store, register and be found")
+    void createAndFind() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        AsyncAccommodationService service = offloading(repository);
+
+        Accommodation created = service.createAccommodationAsync(101).join();
+        List<Accommodation> bulk = service.createAccommodationsAsync(102, 103).join();
+
+        assertAll("Created",
+                () -> assertEquals(created, repository.findByNumber(101).orElseThrow()),
+                () -> assertEquals(created, service.findByNumberAsync(101).join().orElseThrow()),
+                () -> assertEquals(2, bulk.size()),
+                () -> assertTrue(service.findByNumberAsync(103).join().isPresent()),
+                () -> assertTrue(service.findByNumberAsync(999).join().isEmpty()),
+                () -> assertEquals(List.of(102, 103),
+                        service.listAllAsync(101, 10).join().stream().map(Accommodation::getNumber).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("Concurrent tryCreateAsync() for one number should produce exactly one creation")
+    void tryCreateHasOneWinner() {
+        AsyncAccommodationService service = offloading(new InMemoryAccommodationRepository());
+
+        List<CompletableFuture<CreationResult>> attempts = IntStream.range(0, 50)
+                .mapToObj(i -> service.tryCreateAsync(301))
+                .toList();
+        List<CreationResult> results = attempts.stream().map(CompletableFuture::join).toList();
+
+        assertEquals(1, results.stream().filter(CreationResult::created).count());
+        Accommodation winner = results.stream().filter(CreationResult::created).findFirst().orElseThrow().accommodation();
+        assertTrue(results.stream().allMatch(r -> r.accommodation() == winner));
+    }
+
+    @Test
+    @DisplayName("A tryCreateAsync() conflict should leave the winning room findable through the registry")
+    void conflictPublishesWinner() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        Accommodation stored = new Accommodation(302, RoomType.SUPERIOR, BigDecimal.valueOf(990));
+        repository.save(stored);
+        AsyncAccommodationService service = offloading(repository);
+
+        CreationResult result = service.tryCreateAsync(302).join();
+
+        assertAll("Winner published",
+                () -> assertTrue(result.conflict()),
+                () -> assertSame(stored, service.findByNumberAsync(302).join().orElseThrow())
+        );
+    }
+
+    @Test
+    @DisplayName("Work beyond the in-flight limit should queue, and beyond the queue be rejected")
+    void inFlightWorkIsBounded() {
+        ManualRepository repository = new ManualRepository();
+        AsyncAccommodationService service = new AsyncAccommodationServiceImpl(factory, repository,
+                ShardedHallRegistry.byRange(4, 100), executor, 3, 5);
+
+        List<CompletableFuture<Accommodation>> futures = new ArrayList<>();
+        for (int n = 1; n <= 10; n++) {
+            futures.add(service.createAccommodationAsync(n));
+        }
+        assertEquals(3, repository.pending.size(), "Only the in-flight limit reaches the store");
+        assertEquals(2, futures.stream().filter(CompletableFuture::isCompletedExceptionally).count());
+        CompletionException rejected = assertThrows(CompletionException.class, () -> futures.get(9).join());
+        assertInstanceOf(RejectedExecutionException.class, rejected.getCause());
+
+        while (!repository.pending.isEmpty()) {
+            repository.pending.remove(0).complete(null);
+        }
+        assertEquals(8, repository.started.get(), "Queued work starts as slots free up");
+        assertTrue(futures.subList(0, 8).stream().allMatch(f -> f.isDone() && !f.isCompletedExceptionally()));
+    }
+
+    @Test
+    @DisplayName("A long queue of instantly completing work should drain without deep recursion")
+    void queuedInstantWorkDrainsIteratively() {
+        ManualRepository repository = new ManualRepository();
+        AsyncAccommodationService service = new AsyncAccommodationServiceImpl(factory, repository,
+                ShardedHallRegistry.byRange(4, 100_000), executor, 1, 50_000);
+
+        CompletableFuture<Accommodation> blocker = service.createAccommodationAsync(1);
+        List<CompletableFuture<CreationResult>> queued = new ArrayList<>();
+        for (int n = 2; n <= 50_001; n++) {
+            queued.add(service.tryCreateAsync(n));
+        }
+        repository.pending.remove(0).complete(null);
+
+        assertAll("Drained",
+                () -> assertTrue(blocker.isDone() && !blocker.isCompletedExceptionally()),
+                () -> assertTrue(queued.stream().allMatch(f -> f.isDone() && !f.isCompletedExceptionally()),
+                        "Every queued operation should have run on the releasing thread without a StackOverflowError")
+        );
+    }
+
+    @Test
+    @DisplayName("A room number the factory rejects should fail the future, not throw")
+    void invalidNumbersFailTheFuture() {
+        AsyncAccommodationService service = offloading(new InMemoryAccommodationRepository());
+
+        List<CompletableFuture<?>> futures = List.of(service.createAccommodationAsync(0),
+                service.tryCreateAsync(-1), service.createAccommodationsAsync(5, 0));
+        for (CompletableFuture<?> future : futures) {
+            CompletionException e = assertThrows(CompletionException.class, future::join);
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("streamAll() should deliver every room in order and honour demand")
+    void publisherDeliversInOrderWithBackpressure() throws Exception {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        IntStream.rangeClosed(1, 2_000).forEach(n -> repository.save(factory.create(n)));
+        AsyncAccommodationService service = offloading(repository);
+
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        service.streamAll().subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override public void onNext(Accommodation item) {
+                received.add(item.getNumber());
+                subscription.request(1);
+            }
+
+            @Override public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.rangeClosed(1, 2_000).boxed().toList(), received);
+    }
+
+    @Test
+    @DisplayName("A subscriber that stops requesting should stop pages being fetched")
+    void publisherFetchesOnlyOnDemand() throws Exception {
+        ManualRepository repository = new ManualRepository();
+        AsyncAccommodationService service = new AsyncAccommodationServiceImpl(factory, repository,
+                ShardedHallRegistry.byRange(4, 100), executor, 3, 5);
+
+        CountDownLatch gotTen = new CountDownLatch(10);
+        service.streamAll().subscribe(new Flow.Subscriber<>() {
+            @Override public void onSubscribe(Flow.Subscription subscription) { subscription.request(10); }
+            @Override public void onNext(Accommodation item)                 { gotTen.countDown(); }
+            @Override public void onError(Throwable throwable)               { fail(throwable); }
+            @Override public void onComplete()                               { }
+        });
+
+        assertTrue(gotTen.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(1, repository.pageRequests.get(), "One page covers the demand; nothing more is fetched");
+    }
+
+    /** Store whose saves complete only when the test says so, and whose pages are endless. */
+    private static final class ManualRepository implements AsyncAccommodationRepository {
+        final List<CompletableFuture<Void>> pending = new CopyOnWriteArrayList<>();
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger pageRequests = new AtomicInteger();
+
+        @Override public CompletableFuture<Void> saveAsync(Accommodation accommodation) {
+            started.incrementAndGet();
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }
+
+        @Override public CompletableFuture<Accommodation> saveIfAbsentAsync(Accommodation accommodation) {
+            return CompletableFuture.completedFuture(accommodation);
+        }
+
+        @Override public CompletableFuture<Void> saveAllAsync(Collection<Accommodation> accommodations) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override public CompletableFuture<Optional<Accommodation>> findByNumberAsync(int roomNumber) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        @Override public CompletableFuture<List<Accommodation>> findAllAsync(int afterRoomNumber, int limit) {
+            pageRequests.incrementAndGet();
+            StandardAccommodationFactory factory = new StandardAccommodationFactory();
+            return CompletableFuture.completedFuture(IntStream.rangeClosed(afterRoomNumber + 1, afterRoomNumber + limit)
+                    .mapToObj(factory::create).toList());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package accommodation.application;
+
+import accommodation.application.impl.EstateGenerator;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.factory.TypePlan;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static accommodation.domain.factory.TypePlan.share;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Estate Generator Test")
+class EstateGeneratorTest {
+
+    @Test
+    @DisplayName("A type plan should interleave types in the given proportions")
+    void typePlanProportions() {
+        TypePlan plan = TypePlan.of(share(new StandardAccommodationFactory(), 6),
+                share(new SuperiorAccommodationFactory(), 2));
+        List<RoomType> types = IntStream.rangeClosed(1, 8).mapToObj(n -> plan.create(n).getType()).toList();
+
+        assertAll("Weighted cycle",
+                () -> assertEquals(4, plan.cycleLength(), "Weights should be reduced by their gcd"),
+                () -> assertEquals(6, types.stream().filter(t -> t == RoomType.STANDARD).count()),
+                () -> assertNotEquals(types.get(0), types.get(1), "Types should be interleaved, not in runs"),
+                () -> assertEquals(types.get(0), plan.create(4_001).getType(), "Choice should depend only on the number"),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> TypePlan.of(share(new StandardAccommodationFactory(), 0)))
+        );
+    }
+
+    @Test
+    @DisplayName("Parallel generation should save and register every room exactly once")
+    void generatesWholeRange() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        ShardedHallRegistry registry = ShardedHallRegistry.byRange(4, 1_000);
+        TypePlan plan = TypePlan.of(share(new StandardAccommodationFactory(), 3),
+                share(new SuperiorAccommodationFactory(), 1));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long generated = new EstateGenerator(plan, repository, registry, pool, 333).generate(1, 100_000);
+
+            assertAll("Generated estate",
+                    () -> assertEquals(100_000, generated),
+                    () -> assertEquals(100_000, repository.findAll().size()),
+                    () -> assertEquals(100_000, registry.all().size()),
+                    () -> assertEquals(25_000, repository.countByType(RoomType.SUPERIOR)),
+                    () -> assertEquals(plan.create(77_777), repository.findByNumber(77_777).orElseThrow())
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A range smaller than one batch should be published as a single batch")
+    void singleBatch() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        ShardedHallRegistry registry = ShardedHallRegistry.byRange(2, 100);
+        EstateGenerator generator = new EstateGenerator(new SuperiorAccommodationFactory(), repository, registry);
+
+        assertAll("Small range",
+                () -> assertEquals(1, generator.generate(Integer.MAX_VALUE, Integer.MAX_VALUE)),
+                () -> assertTrue(registry.all().containsKey(Integer.MAX_VALUE)),
+                () -> assertThrows(IllegalArgumentException.class, () -> generator.generate(10, 9))
+        );
+    }
+}
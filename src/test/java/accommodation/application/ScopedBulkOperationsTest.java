@@ -0,0 +1,132 @@
+package accommodation.application;
+
+import accommodation.application.impl.ScopedBulkOperations;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.infrastructure.persistence.DurableAccommodationRepository;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import accommodation.infrastructure.repository.ObservableAccommodationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Scoped Bulk Operations Test")
+class ScopedBulkOperationsTest {
+
+    private final StandardAccommodationFactory factory = new StandardAccommodationFactory();
+
+    private ScopedBulkOperations operations(InMemoryAccommodationRepository repository, ExecutionMode mode) {
+        return new ScopedBulkOperations(factory, repository, ShardedHallRegistry.byRange(4, 1_000), mode, 8);
+    }
+
+    @Test
+    @DisplayName("Bulk creation and lookup should fan out and keep request order")
+    void createAndFindOnPlatformThreads() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        int[] numbers = IntStream.rangeClosed(1, 500).toArray();
+        try (ScopedBulkOperations bulk = operations(repository, ExecutionMode.PLATFORM)) {
+            List<Accommodation> created = bulk.createAccommodations(numbers);
+            List<Accommodation> found = bulk.findAllByNumbers(7, 9_999, 3, 500);
+
+            assertAll("Platform mode",
+                    () -> assertEquals(500, created.size()),
+                    () -> assertEquals(500, repository.findAll().size()),
+                    () -> assertEquals(List.of(7, 3, 500), found.stream().map(Accommodation::getNumber).toList(),
+                            "Unknown numbers should be skipped, the rest kept in request order")
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Virtual mode should behave the same when the runtime supports it")
+    void createAndFindOnVirtualThreads() {
+        assumeTrue(ExecutionMode.VIRTUAL.isSupported(), "needs Java 21");
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        try (ScopedBulkOperations bulk = operations(repository, ExecutionMode.VIRTUAL)) {
+            bulk.createAccommodations(IntStream.rangeClosed(1, 2_000).toArray());
+            assertEquals(2_000, bulk.findAllByNumbers(IntStream.rangeClosed(1, 2_000).toArray()).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Virtual mode should be rejected on a runtime without virtual threads")
+    void virtualModeUnsupported() {
+        assumeTrue(!ExecutionMode.VIRTUAL.isSupported());
+        assertThrows(UnsupportedOperationException.class, () -> ExecutionMode.VIRTUAL.newExecutor(1));
+    }
+
+    @Test
+    @DisplayName("The first failure should skip unstarted siblings, let running ones finish, and be rethrown")
+    void failureSkipsUnstartedSiblings() {
+        CountDownLatch running = new CountDownLatch(1);
+        AtomicInteger finished = new AtomicInteger();
+        AtomicInteger interrupted = new AtomicInteger();
+        Flushable slow = () -> {
+            running.countDown();
+            try {
+                Thread.sleep(200);
+                finished.incrementAndGet();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+        };
+        Flushable failing = () -> {
+            try {
+                running.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("disk full");
+        };
+        AtomicInteger skipped = new AtomicInteger();
+        Flushable counting = skipped::incrementAndGet;
+
+        try (ScopedBulkOperations bulk = new ScopedBulkOperations(factory, new InMemoryAccommodationRepository(),
+                ShardedHallRegistry.byRange(4, 1_000), ExecutionMode.PLATFORM, 2)) {
+            UncheckedIOException e = assertThrows(UncheckedIOException.class,
+                    () -> bulk.flushAll(List.of(slow, failing, counting, counting, counting)));
+            assertAll("Shutdown on failure",
+                    () -> assertEquals("disk full", e.getCause().getMessage()),
+                    () -> assertEquals(1, finished.get(), "The running sibling should finish before flushAll() returns"),
+                    () -> assertEquals(0, interrupted.get(), "Running siblings must not be interrupted"),
+                    () -> assertEquals(0, skipped.get(), "Siblings queued behind the failure should be skipped")
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("A failed save should leave a durable repository's log usable")
+    void failureKeepsDurableLogOpen(@TempDir Path dir) throws IOException {
+        try (DurableAccommodationRepository durable =
+                     new DurableAccommodationRepository(new InMemoryAccommodationRepository(), dir)) {
+            ObservableAccommodationRepository repository = new ObservableAccommodationRepository(durable);
+            repository.addListener((previous, current) -> {
+                if (current.getNumber() == 250) throw new IllegalStateException("listener failed");
+            });
+            try (ScopedBulkOperations bulk = new ScopedBulkOperations(factory, repository,
+                    ShardedHallRegistry.byRange(4, 1_000), ExecutionMode.PLATFORM, 8)) {
+                assertThrows(IllegalStateException.class,
+                        () -> bulk.createAccommodations(IntStream.rangeClosed(1, 500).toArray()));
+                assertDoesNotThrow(() -> bulk.createAccommodations(501, 502, 503),
+                        "Siblings syncing the log must not have closed its channel");
+            }
+        }
+        try (DurableAccommodationRepository recovered =
+                     new DurableAccommodationRepository(new InMemoryAccommodationRepository(), dir)) {
+            assertTrue(recovered.findByNumber(503).isPresent());
+        }
+    }
+}
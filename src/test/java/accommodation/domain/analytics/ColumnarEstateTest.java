@@ -0,0 +1,140 @@
+package accommodation.domain.analytics;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import accommodation.infrastructure.repository.ObservableAccommodationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnarEstate Test")
+class ColumnarEstateTest {
+
+    private static Accommodation room(int number, RoomType type, String price) {
+        return new Accommodation(number, type, new BigDecimal(price));
+    }
+
+    @Test
+    @DisplayName("Aggregates should follow saves, including overwrites and type changes")
+    void followsSaves() {
+        ObservableAccommodationRepository repository = new ObservableAccommodationRepository(new InMemoryAccommodationRepository());
+        repository.save(room(101, RoomType.STANDARD, "700"));
+        ColumnarEstate estate = new ColumnarEstate();
+        repository.addListener(estate);
+
+        repository.save(room(102, RoomType.STANDARD, "650.50"));
+        repository.saveAll(List.of(room(201, RoomType.SUPERIOR, "950"), room(202, RoomType.SUPERIOR, "990.25")));
+        repository.save(room(101, RoomType.SUPERIOR, "1000"));
+
+        PriceSummary standard = estate.summarize(RoomType.STANDARD);
+        PriceSummary superior = estate.summarize(RoomType.SUPERIOR);
+        assertAll("Incremental columns",
+                () -> assertEquals(4, estate.size(), "An overwrite should not add a room"),
+                () -> assertEquals(1, standard.count()),
+                () -> assertEquals(new BigDecimal("650.50"), standard.sum()),
+                () -> assertEquals(3, superior.count()),
+                () -> assertEquals(new BigDecimal("2940.25"), superior.sum()),
+                () -> assertEquals(new BigDecimal("950.00"), superior.min()),
+                () -> assertEquals(new BigDecimal("1000.00"), superior.max()),
+                () -> assertEquals(new BigDecimal("980.08"), superior.average(RoundingMode.HALF_EVEN)),
+                () -> assertEquals(superior, estate.summarizeByType().get(RoomType.SUPERIOR)),
+                () -> assertEquals(new BigDecimal("3590.75"), estate.summarize().sum())
+        );
+    }
+
+    @Test
+    @DisplayName("Price histogram should clamp outliers into the edge buckets")
+    void priceHistogram() {
+        ColumnarEstate estate = new ColumnarEstate();
+        estate.upsert(room(1, RoomType.STANDARD, "50"));
+        estate.upsert(room(2, RoomType.STANDARD, "700"));
+        estate.upsert(room(3, RoomType.STANDARD, "799.99"));
+        estate.upsert(room(4, RoomType.SUPERIOR, "950"));
+        estate.upsert(room(5, RoomType.SUPERIOR, "5000"));
+
+        assertAll("Buckets of 100 from 600",
+                () -> assertArrayEquals(new long[] {1, 2, 0, 2},
+                        estate.priceHistogram(null, new BigDecimal("600"), new BigDecimal("100"), 4)),
+                () -> assertArrayEquals(new long[] {0, 0, 0, 2},
+                        estate.priceHistogram(RoomType.SUPERIOR, new BigDecimal("600"), new BigDecimal("100"), 4)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> estate.priceHistogram(null, BigDecimal.ZERO, BigDecimal.ZERO, 4))
+        );
+    }
+
+    @Test
+    @DisplayName("Empty types should summarize to zero rooms and no prices")
+    void emptyType() {
+        PriceSummary empty = new ColumnarEstate().summarize(RoomType.SUPERIOR);
+
+        assertAll("Empty",
+                () -> assertEquals(0, empty.count()),
+                () -> assertNull(empty.min()),
+                () -> assertNull(empty.average(RoundingMode.HALF_EVEN))
+        );
+    }
+
+    @Test
+    @DisplayName("A price finer than the scale should be rounded without breaking later listeners")
+    void finerPricesAreRounded() {
+        ObservableAccommodationRepository repository = new ObservableAccommodationRepository(new InMemoryAccommodationRepository());
+        ColumnarEstate estate = new ColumnarEstate();
+        List<Accommodation> seenAfter = new ArrayList<>();
+        repository.addListener(estate);
+        repository.addListener((previous, current) -> seenAfter.add(current));
+
+        repository.save(room(1, RoomType.STANDARD, "699.999"));
+        repository.save(room(2, RoomType.STANDARD, "700.004"));
+
+        PriceSummary summary = estate.summarize(RoomType.STANDARD);
+        assertAll("Rounded",
+                () -> assertEquals(2, estate.size()),
+                () -> assertEquals(new BigDecimal("700.00"), summary.min()),
+                () -> assertEquals(new BigDecimal("1400.00"), summary.sum()),
+                () -> assertEquals(2, seenAfter.size(), "Listeners after the estate still run")
+        );
+    }
+
+    @Test
+    @DisplayName("Concurrent saves through the observable repository should all be reflected")
+    void concurrentSaves() throws InterruptedException {
+        ObservableAccommodationRepository repository = new ObservableAccommodationRepository(new InMemoryAccommodationRepository());
+        ColumnarEstate estate = new ColumnarEstate();
+        repository.addListener(estate);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                List<Accommodation> batch = new ArrayList<>();
+                for (int n = 1; n <= 20_000; n++) {
+                    // every thread writes every room, the last writer wins with the same values
+                    batch.add(room(n, n % 2 == 0 ? RoomType.STANDARD : RoomType.SUPERIOR, "700"));
+                    if (batch.size() == 500) {
+                        repository.saveAll(batch);
+                        batch = new ArrayList<>();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Map<RoomType, PriceSummary> byType = estate.summarizeByType();
+        assertAll("Converged",
+                () -> assertEquals(20_000, estate.size()),
+                () -> assertEquals(10_000, byType.get(RoomType.STANDARD).count()),
+                () -> assertEquals(new BigDecimal("7000000.00"), byType.get(RoomType.SUPERIOR).sum())
+        );
+    }
+}
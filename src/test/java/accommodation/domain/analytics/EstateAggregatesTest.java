@@ -0,0 +1,101 @@
+package accommodation.domain.analytics;
+
+import accommodation.application.impl.AccommodationServiceImpl;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import accommodation.infrastructure.repository.ObservableAccommodationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EstateAggregates Test")
+class EstateAggregatesTest {
+
+    @Test
+    @DisplayName("Service creations and overwrites should move rooms between types, not double count")
+    void overwritesAreNetted() {
+        ObservableAccommodationRepository repository = new ObservableAccommodationRepository(new InMemoryAccommodationRepository());
+        EstateAggregates aggregates = new EstateAggregates();
+        repository.addListener(aggregates);
+        AccommodationServiceImpl service = new AccommodationServiceImpl(new StandardAccommodationFactory(),
+                repository, ShardedHallRegistry.byRange(2, 100));
+
+        service.createAccommodations(101, 102, 103);
+        service.tryCreate(101);
+        repository.save(new Accommodation(102, RoomType.SUPERIOR, new BigDecimal("990.50")));
+        repository.save(new Accommodation(103, RoomType.STANDARD, new BigDecimal("720")));
+
+        assertAll("Netted figures",
+                () -> assertEquals(2, aggregates.count(RoomType.STANDARD)),
+                () -> assertEquals(1, aggregates.count(RoomType.SUPERIOR)),
+                () -> assertEquals(3, aggregates.count(), "A lost tryCreate() should not count"),
+                () -> assertEquals(new BigDecimal("1420.00"), aggregates.rentRoll(RoomType.STANDARD)),
+                () -> assertEquals(new BigDecimal("2410.50"), aggregates.rentRoll()),
+                () -> assertEquals(Optional.of(new BigDecimal("710.00")),
+                        aggregates.averagePrice(RoomType.STANDARD, RoundingMode.HALF_EVEN)),
+                () -> assertEquals(Optional.of(new BigDecimal("803.50")), aggregates.averagePrice(RoundingMode.HALF_EVEN))
+        );
+    }
+
+    @Test
+    @DisplayName("Prices finer than the scale should be rounded, and overwriting them should net out exactly")
+    void finerPricesAreRounded() {
+        ObservableAccommodationRepository repository = new ObservableAccommodationRepository(new InMemoryAccommodationRepository());
+        EstateAggregates aggregates = new EstateAggregates();
+        repository.addListener(aggregates);
+
+        repository.save(new Accommodation(1, RoomType.STANDARD, new BigDecimal("699.999")));
+        assertEquals(new BigDecimal("700.00"), aggregates.rentRoll());
+        repository.save(new Accommodation(2, RoomType.STANDARD, new BigDecimal("1e30")));
+        assertEquals(2, aggregates.count(RoomType.STANDARD), "Out-of-range prices are still counted");
+
+        repository.save(new Accommodation(1, RoomType.SUPERIOR, new BigDecimal("950")));
+        repository.save(new Accommodation(2, RoomType.STANDARD, new BigDecimal("700")));
+        assertAll("Overwritten",
+                () -> assertEquals(1, aggregates.count(RoomType.STANDARD)),
+                () -> assertEquals(1, aggregates.count(RoomType.SUPERIOR)),
+                () -> assertEquals(new BigDecimal("1650.00"), aggregates.rentRoll())
+        );
+    }
+
+    @Test
+    @DisplayName("Figures should match a full scan after concurrent creators")
+    void matchesFullScan() throws InterruptedException {
+        ObservableAccommodationRepository repository = new ObservableAccommodationRepository(new InMemoryAccommodationRepository());
+        repository.save(new Accommodation(1, RoomType.SUPERIOR, new BigDecimal("950")));
+        EstateAggregates aggregates = new EstateAggregates();
+        repository.addListener(aggregates);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            final int offset = t;
+            executor.submit(() -> {
+                for (int n = 1; n <= 10_000; n++) {
+                    RoomType type = (n + offset) % 3 == 0 ? RoomType.SUPERIOR : RoomType.STANDARD;
+                    repository.save(new Accommodation(n, type, BigDecimal.valueOf(600 + n % 50 + offset)));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        EstateAggregates scanned = EstateAggregates.of(repository);
+        assertAll("Same as rescanning",
+                () -> assertEquals(10_000, aggregates.count()),
+                () -> assertEquals(scanned.countByType(), aggregates.countByType()),
+                () -> assertEquals(scanned.rentRoll(), aggregates.rentRoll()),
+                () -> assertEquals(Optional.empty(), new EstateAggregates().averagePrice(RoomType.SUPERIOR, RoundingMode.HALF_EVEN))
+        );
+    }
+}
@@ -0,0 +1,142 @@
+package accommodation.domain.availability;
+
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.model.RoomType;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AvailabilityIndex Test")
+class AvailabilityIndexTest {
+
+    private static final int WEEKS = 52;
+    private AvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        StandardAccommodationFactory standard = new StandardAccommodationFactory();
+        SuperiorAccommodationFactory superior = new SuperiorAccommodationFactory();
+        for (int n = 1; n <= 3_000; n++) {
+            repository.save(n % 3 == 0 ? superior.create(n) : standard.create(n));
+        }
+        index = AvailabilityIndex.of(repository, WEEKS);
+    }
+
+    @Test
+    @DisplayName("Every room should start free for the whole year")
+    void allFreeInitially() {
+        assertAll("Empty calendar",
+                () -> assertEquals(3_000, index.roomCount()),
+                () -> assertEquals(1_000, index.countFree(RoomType.SUPERIOR, 0, WEEKS - 1)),
+                () -> assertEquals(2_000, index.freeRooms(RoomType.STANDARD, 0, WEEKS - 1).length),
+                () -> assertTrue(index.isFree(3, 0, WEEKS - 1))
+        );
+    }
+
+    @Test
+    @DisplayName("A room booked for part of the range should drop out only for overlapping queries")
+    void overlappingBookingsExcluded() {
+        assertTrue(index.book(3, 10, 20));
+
+        assertAll("Overlap semantics",
+                () -> assertEquals(999, index.countFree(RoomType.SUPERIOR, 0, 10)),
+                () -> assertEquals(999, index.countFree(RoomType.SUPERIOR, 20, 30)),
+                () -> assertEquals(1_000, index.countFree(RoomType.SUPERIOR, 21, 51)),
+                () -> assertEquals(1_000, index.countFree(RoomType.SUPERIOR, 0, 9)),
+                () -> assertEquals(2_000, index.countFree(RoomType.STANDARD, 0, 51), "Other types unaffected"),
+                () -> assertFalse(index.isFree(3, 15, 15))
+        );
+    }
+
+    @Test
+    @DisplayName("book() should be all-or-nothing and release() should free the weeks again")
+    void bookIsAtomicAndReleasable() {
+        assertTrue(index.book(6, 5, 9));
+        assertFalse(index.book(6, 9, 12), "Week 9 is taken");
+        assertTrue(index.isFree(6, 10, 12), "A rejected booking must not leave partial weeks");
+
+        index.release(6, 5, 9);
+        assertTrue(index.book(6, 0, 51));
+    }
+
+    @Test
+    @DisplayName("freeRooms() should return ascending room numbers matching a brute-force check")
+    void freeRoomsMatchesBruteForce() {
+        for (int n = 3; n <= 3_000; n += 7) {
+            index.book(n, n % WEEKS, Math.min(WEEKS - 1, n % WEEKS + 4));
+        }
+
+        int[] expected = IntStream.rangeClosed(1, 3_000)
+                .filter(n -> n % 3 == 0)
+                .filter(n -> index.isFree(n, 12, 30))
+                .toArray();
+        assertArrayEquals(expected, index.freeRooms(RoomType.SUPERIOR, 12, 30));
+    }
+
+    @Test
+    @DisplayName("Re-adding a room with another type should move it between type masks")
+    void retypingRoom() {
+        index.addRoom(new SuperiorAccommodationFactory().create(1));
+
+        assertAll("Retyped",
+                () -> assertEquals(1_001, index.countFree(RoomType.SUPERIOR, 0, 0)),
+                () -> assertEquals(1_999, index.countFree(RoomType.STANDARD, 0, 0)),
+                () -> assertEquals(3_000, index.roomCount())
+        );
+    }
+
+    @Test
+    @DisplayName("Unknown rooms and out-of-range weeks should be rejected")
+    void invalidInputRejected() {
+        assertAll("Validation",
+                () -> assertThrows(IllegalArgumentException.class, () -> index.book(9_999, 0, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.book(1, 0, WEEKS)),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.countFree(RoomType.STANDARD, 5, 4))
+        );
+    }
+
+    @Test
+    @DisplayName("Queries racing slot growth should never fail or go backwards")
+    void queriesRaceGrowth() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean done = new AtomicBoolean();
+        Future<Integer> reader = executor.submit(() -> {
+            int last = 0;
+            int queries = 0;
+            while (!done.get()) {
+                int free = index.countFree(RoomType.STANDARD, 0, WEEKS - 1);
+                assertTrue(free >= last, "Free rooms went from " + last + " to " + free);
+                int listed = index.freeRooms(RoomType.STANDARD, 0, WEEKS - 1).length;
+                assertTrue(listed >= free, "Listed " + listed + " after counting " + free);
+                last = listed;
+                queries++;
+            }
+            return queries;
+        });
+        StandardAccommodationFactory standard = new StandardAccommodationFactory();
+        for (int n = 3_001; n <= 40_000; n++) {
+            index.addRoom(standard.create(n));
+            if (n % 1_000 == 0) Thread.yield();
+        }
+        done.set(true);
+
+        assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+        executor.shutdown();
+        assertAll("After growth",
+                () -> assertEquals(40_000, index.roomCount()),
+                () -> assertEquals(2_000 + 37_000, index.countFree(RoomType.STANDARD, 0, WEEKS - 1))
+        );
+    }
+}
@@ -2,7 +2,10 @@ package accommodation.domain.factory;
 
 import org.junit.jupiter.api.*;
 
+import accommodation.domain.builder.StandardRoomBuilder;
+import accommodation.domain.builder.SuperiorRoomBuilder;
 import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
 import accommodation.domain.model.RoomType;
 
 import java.math.BigDecimal;
@@ -50,4 +53,43 @@ class AccommodationFactoryTest {
                 () -> assertEquals(BigDecimal.valueOf(950), room.getPricePerMonth(), "Price should be 950")
         );
     }
+
+    @Test
+    @DisplayName("Default factories should share one rate card per room type")
+    void defaultFactoriesShareRateCards() {
+        Accommodation standard1 = new StandardAccommodationFactory().create(101);
+        Accommodation standard2 = new StandardAccommodationFactory().create(102);
+        Accommodation superior = new SuperiorAccommodationFactory().create(201);
+
+        assertAll("Shared rate cards",
+                () -> assertSame(RateCard.STANDARD, standard1.getRateCard()),
+                () -> assertSame(standard1.getPricePerMonth(), standard2.getPricePerMonth()),
+                () -> assertSame(RateCard.SUPERIOR, superior.getRateCard()),
+                () -> assertEquals(new StandardRoomBuilder().number(101).build(), standard1,
+                        "Factory rooms should equal builder-made rooms")
+        );
+    }
+
+    @Test
+    @DisplayName("Builder-made rooms at the default price should reuse the canonical card")
+    void builderRoomsReuseCanonicalCard() {
+        Accommodation room = new SuperiorRoomBuilder().number(301).build();
+        Accommodation custom = new Accommodation(302, RoomType.SUPERIOR, new BigDecimal("950.00"));
+
+        assertSame(RateCard.SUPERIOR, room.getRateCard());
+        assertNotSame(RateCard.SUPERIOR, custom.getRateCard(), "A different scale keeps its own card");
+    }
+
+    @Test
+    @DisplayName("Direct factory path should match the builder and share the canonical card")
+    void createMatchesBuilder() {
+        AccommodationFactory standard = new StandardAccommodationFactory();
+        AccommodationFactory superior = new SuperiorAccommodationFactory();
+        assertAll("Same rooms as the builder",
+                () -> assertEquals(new StandardRoomBuilder().number(101).build(), standard.create(101)),
+                () -> assertEquals(new SuperiorRoomBuilder().number(202).build(), superior.create(202)),
+                () -> assertSame(RateCard.STANDARD, standard.create(103).getRateCard()),
+                () -> assertSame(RateCard.SUPERIOR, superior.create(204).getRateCard())
+        );
+    }
 }
@@ -0,0 +1,150 @@
+package accommodation.domain.occupancy;
+
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.model.RoomType;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OccupancyLedger Test")
+class OccupancyLedgerTest {
+
+    private final InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+    private final AtomicLong now = new AtomicLong();
+    private OccupancyLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        StandardAccommodationFactory standard = new StandardAccommodationFactory();
+        SuperiorAccommodationFactory superior = new SuperiorAccommodationFactory();
+        for (int n = 1; n <= 10; n++) {
+            repository.save(standard.create(100 + n));
+            repository.save(superior.create(200 + n));
+        }
+        ledger = new OccupancyLedger(repository, now::get);
+    }
+
+    @Test
+    @DisplayName("hold -> confirm -> release should walk the room through every state")
+    void lifecycle() {
+        assertEquals(OccupancyState.VACANT, ledger.stateOf(101));
+        assertTrue(ledger.hold(101, "alice", Duration.ofMinutes(5)));
+        assertAll("Held",
+                () -> assertEquals(OccupancyState.HELD, ledger.stateOf(101)),
+                () -> assertFalse(ledger.hold(101, "bob", Duration.ofMinutes(5)), "Held by someone else"),
+                () -> assertFalse(ledger.confirm(101, "bob"))
+        );
+
+        assertTrue(ledger.confirm(101, "alice"));
+        assertAll("Occupied",
+                () -> assertEquals(OccupancyState.OCCUPIED, ledger.stateOf(101)),
+                () -> assertEquals("alice", ledger.occupantOf(101).orElseThrow()),
+                () -> assertFalse(ledger.release(101, "bob"))
+        );
+
+        assertTrue(ledger.release(101, "alice"));
+        assertEquals(OccupancyState.VACANT, ledger.stateOf(101));
+    }
+
+    @Test
+    @DisplayName("An expired hold should read as vacant and be claimable by others")
+    void holdsExpire() {
+        assertTrue(ledger.hold(102, "alice", Duration.ofSeconds(30)));
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertAll("After expiry",
+                () -> assertEquals(OccupancyState.VACANT, ledger.stateOf(102)),
+                () -> assertTrue(ledger.occupantOf(102).isEmpty()),
+                () -> assertFalse(ledger.confirm(102, "alice"), "A lapsed hold cannot be confirmed"),
+                () -> assertTrue(ledger.hold(102, "bob", Duration.ofSeconds(30)))
+        );
+    }
+
+    @Test
+    @DisplayName("Unknown rooms should be rejected")
+    void unknownRoomRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ledger.hold(999, "alice", Duration.ofMinutes(1)));
+        assertEquals(OccupancyState.VACANT, ledger.stateOf(999));
+    }
+
+    @Test
+    @DisplayName("Exactly one of many racing applicants should win a room")
+    void concurrentHoldsHaveOneWinner() throws Exception {
+        final int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final String applicant = "applicant-" + t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (ledger.hold(201, applicant, Duration.ofMinutes(1)) && ledger.confirm(201, applicant)) {
+                    winners.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, winners.get());
+        assertEquals(OccupancyState.OCCUPIED, ledger.stateOf(201));
+    }
+
+    @Test
+    @DisplayName("BulkAllocator should fill each type without double-booking")
+    void bulkAllocation() {
+        assertTrue(ledger.hold(105, "walk-in", Duration.ofMinutes(5)));
+
+        List<Applicant> applicants = new ArrayList<>();
+        for (int i = 0; i < 12; i++) applicants.add(new Applicant("std-" + i, RoomType.STANDARD));
+        for (int i = 0; i < 4; i++) applicants.add(new Applicant("sup-" + i, RoomType.SUPERIOR));
+
+        AllocationResult result = new BulkAllocator(repository, ledger).allocate(applicants);
+
+        Set<Integer> rooms = new HashSet<>(result.assignments().values());
+        assertAll("Allocation",
+                () -> assertEquals(13, result.assignments().size(), "9 free standard rooms + 4 superior"),
+                () -> assertEquals(3, result.unallocated().size()),
+                () -> assertEquals(13, rooms.size(), "No room assigned twice"),
+                () -> assertFalse(rooms.contains(105), "Rooms on hold are skipped"),
+                () -> assertTrue(result.assignments().entrySet().stream()
+                        .allMatch(e -> ledger.occupantOf(e.getValue()).orElseThrow().equals(e.getKey())))
+        );
+    }
+
+    @Test
+    @DisplayName("BulkAllocator should reject a batch with a repeated applicant id before claiming")
+    void bulkAllocationRejectsDuplicateIds() {
+        List<Applicant> applicants = List.of(
+                new Applicant("alice", RoomType.STANDARD),
+                new Applicant("alice", RoomType.SUPERIOR));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new BulkAllocator(repository, ledger).allocate(applicants));
+        assertAll("Nothing claimed",
+                () -> assertEquals(OccupancyState.VACANT, ledger.stateOf(101)),
+                () -> assertEquals(OccupancyState.VACANT, ledger.stateOf(201))
+        );
+    }
+}
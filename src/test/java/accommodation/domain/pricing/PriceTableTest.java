@@ -0,0 +1,122 @@
+package accommodation.domain.pricing;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceTable Test")
+class PriceTableTest {
+
+    @Test
+    @DisplayName("MinorUnits.divide() should round exactly like BigDecimal in every mode")
+    void divisionMatchesBigDecimal() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (RoundingMode mode : RoundingMode.values()) {
+            if (mode == RoundingMode.UNNECESSARY) continue;
+            for (int i = 0; i < 20_000; i++) {
+                long numerator = random.nextLong(-1_000_000, 1_000_000);
+                long divisor = i % 4 == 0 ? 2 : random.nextLong(1, 1_000);
+                long expected = BigDecimal.valueOf(numerator)
+                        .divide(BigDecimal.valueOf(divisor), 0, mode).longValueExact();
+                assertEquals(expected, MinorUnits.divide(numerator, divisor, mode),
+                        () -> numerator + " / " + divisor + " " + mode);
+            }
+        }
+        assertThrows(ArithmeticException.class, () -> MinorUnits.divide(7, 2, RoundingMode.UNNECESSARY));
+        assertEquals(4, MinorUnits.divide(8, 2, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    @DisplayName("uplift() should give the same prices as BigDecimal multiply + setScale")
+    void upliftMatchesBigDecimal() {
+        SplittableRandom random = new SplittableRandom(11);
+        List<Accommodation> rooms = new ArrayList<>();
+        for (int n = 1; n <= 2_000; n++) {
+            BigDecimal price = BigDecimal.valueOf(random.nextLong(50_000, 150_000), 2);
+            rooms.add(new Accommodation(n, n % 2 == 0 ? RoomType.STANDARD : RoomType.SUPERIOR, price));
+        }
+        BigDecimal percent = new BigDecimal("3.75");
+        BigDecimal factor = BigDecimal.ONE.add(percent.movePointLeft(2));
+
+        for (RoundingMode mode : List.of(RoundingMode.HALF_EVEN, RoundingMode.HALF_UP, RoundingMode.FLOOR)) {
+            PriceTable table = PriceTable.of(rooms, 2);
+            assertEquals(1_000, table.uplift(RoomType.SUPERIOR, percent, mode));
+            for (Accommodation room : rooms) {
+                BigDecimal expected = room.getType() == RoomType.SUPERIOR
+                        ? room.getPricePerMonth().multiply(factor).setScale(2, mode)
+                        : room.getPricePerMonth().setScale(2);
+                assertEquals(expected, table.priceOf(room.getNumber()), () -> room + " " + mode);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Term cost and revenue projection should equal the BigDecimal sums")
+    void projections() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        repository.save(new Accommodation(101, RoomType.STANDARD, BigDecimal.valueOf(700)));
+        repository.save(new Accommodation(102, RoomType.STANDARD, new BigDecimal("712.50")));
+        repository.save(new Accommodation(201, RoomType.SUPERIOR, new BigDecimal("950.05")));
+        PriceTable table = PriceTable.of(repository);
+
+        assertAll("Projections",
+                () -> assertEquals(new BigDecimal("6412.50"), table.termCost(102, 9)),
+                () -> assertEquals(new BigDecimal("28350.60"), table.projectRevenue(12)),
+                () -> assertEquals(1_412_50L * 12, table.projectRevenueMinor(RoomType.STANDARD, 12)),
+                () -> assertThrows(IllegalArgumentException.class, () -> table.termCost(999, 1))
+        );
+    }
+
+    @Test
+    @DisplayName("multiply() should reprice one type and leave the table scale alone")
+    void multiplyRepricesOneType() {
+        List<Accommodation> rooms = List.of(
+                new Accommodation(101, RoomType.STANDARD, new BigDecimal("700.00")),
+                new Accommodation(201, RoomType.SUPERIOR, new BigDecimal("950.00")));
+        PriceTable table = PriceTable.of(rooms, 2);
+
+        assertEquals(1, table.multiply(RoomType.SUPERIOR, new BigDecimal("0.333"), RoundingMode.HALF_EVEN));
+        assertAll("Multiplied",
+                () -> assertEquals(new BigDecimal("316.35"), table.priceOf(201)),
+                () -> assertEquals(new BigDecimal("700.00"), table.priceOf(101)),
+                () -> assertEquals(2, table.scale())
+        );
+    }
+
+    @Test
+    @DisplayName("saveChanges() should write back only repriced rooms")
+    void saveChanges() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        repository.save(new Accommodation(101, RoomType.STANDARD, BigDecimal.valueOf(700)));
+        repository.save(new Accommodation(201, RoomType.SUPERIOR, BigDecimal.valueOf(950)));
+        Accommodation untouched = repository.findByNumber(101).orElseThrow();
+
+        PriceTable table = PriceTable.of(repository);
+        table.uplift(RoomType.SUPERIOR, BigDecimal.TEN, RoundingMode.HALF_EVEN);
+
+        assertEquals(1, table.saveChanges(repository));
+        assertAll("Written back",
+                () -> assertEquals(new BigDecimal("1045.00"), repository.findByNumber(201).orElseThrow().getPricePerMonth()),
+                () -> assertSame(untouched, repository.findByNumber(101).orElseThrow()),
+                () -> assertEquals(0, table.saveChanges(repository), "Nothing left to save")
+        );
+    }
+
+    @Test
+    @DisplayName("Prices finer than the table scale should be rejected")
+    void finerPricesRejected() {
+        List<Accommodation> rooms = List.of(new Accommodation(1, RoomType.STANDARD, new BigDecimal("700.001")));
+        assertThrows(IllegalArgumentException.class, () -> PriceTable.of(rooms, 2));
+        assertEquals(new BigDecimal("700.001"), PriceTable.of(rooms, 3).priceOf(1));
+    }
+}
@@ -0,0 +1,176 @@
+package accommodation.domain.pricing;
+
+import accommodation.domain.analytics.EstateAggregates;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import accommodation.infrastructure.repository.ObservableAccommodationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TariffBook Test")
+class TariffBookTest {
+
+    private final TariffBook tariff = new TariffBook(3);
+
+    @Test
+    @DisplayName("A new book should start at version 1 with the canonical cards")
+    void startsWithDefaults() {
+        RateSnapshot snapshot = tariff.current();
+        assertAll("Initial version",
+                () -> assertEquals(1, snapshot.version()),
+                () -> assertSame(RateCard.STANDARD, snapshot.cardFor(RoomType.STANDARD)),
+                () -> assertSame(RateCard.SUPERIOR, snapshot.cardFor(RoomType.SUPERIOR)),
+                () -> assertSame(RateCard.STANDARD, tariff.rateFor(RoomType.STANDARD))
+        );
+    }
+
+    @Test
+    @DisplayName("Repricing should leave stored rooms untouched until applyTo() re-saves them")
+    void repriceIsAppliedBySaving() {
+        ObservableAccommodationRepository repository = new ObservableAccommodationRepository(new InMemoryAccommodationRepository());
+        EstateAggregates aggregates = new EstateAggregates();
+        repository.addListener(aggregates);
+        StandardAccommodationFactory factory = StandardAccommodationFactory.tariffed(tariff);
+        for (int n = 1; n <= 100; n++) {
+            repository.save(factory.create(n));
+        }
+        repository.save(new Accommodation(101, RoomType.STANDARD, BigDecimal.valueOf(650)));
+        Accommodation stored = repository.findByNumber(42).orElseThrow();
+
+        tariff.reprice(RoomType.STANDARD, BigDecimal.valueOf(725));
+
+        assertAll("Before applying",
+                () -> assertEquals(BigDecimal.valueOf(700), stored.getPricePerMonth(), "Rooms are immutable"),
+                () -> assertEquals(BigDecimal.valueOf(725), tariff.current().priceOf(stored)),
+                () -> assertEquals(BigDecimal.valueOf(725), factory.create(500).getPricePerMonth(),
+                        "New rooms get the current card"),
+                () -> assertEquals(100, repository.findByPriceBetween(BigDecimal.valueOf(700), BigDecimal.valueOf(700)).size())
+        );
+
+        long repriced = tariff.applyTo(repository);
+
+        assertAll("After applying",
+                () -> assertEquals(100, repriced, "The off-tariff room should be left alone"),
+                () -> assertEquals(BigDecimal.valueOf(725), repository.findByNumber(42).orElseThrow().getPricePerMonth()),
+                () -> assertTrue(repository.findByPriceBetween(BigDecimal.valueOf(700), BigDecimal.valueOf(700)).isEmpty(),
+                        "Old price bucket should be emptied"),
+                () -> assertEquals(100, repository.findByPriceBetween(BigDecimal.valueOf(725), BigDecimal.valueOf(725)).size()),
+                () -> assertEquals(BigDecimal.valueOf(650), repository.findByNumber(101).orElseThrow().getPricePerMonth()),
+                () -> assertEquals(EstateAggregates.of(repository).rentRoll(), aggregates.rentRoll()),
+                () -> assertEquals(new BigDecimal("73150.00"), aggregates.rentRoll()),
+                () -> assertEquals(0, tariff.applyTo(repository), "Applying twice should change nothing"),
+                () -> assertEquals(2, tariff.current().version())
+        );
+    }
+
+    @Test
+    @DisplayName("applyTo() should not overwrite a room saved after it was read")
+    void applyToKeepsConcurrentSaves() {
+        InMemoryAccommodationRepository store = new InMemoryAccommodationRepository();
+        StandardAccommodationFactory factory = StandardAccommodationFactory.tariffed(tariff);
+        for (int n = 1; n <= 10_000; n++) {
+            store.save(factory.create(n));
+        }
+        Accommodation edited = new Accommodation(42, RoomType.STANDARD, BigDecimal.valueOf(800));
+        // saves room 42 right after the page holding it has been read
+        AccommodationRepository repository = new AccommodationRepository() {
+            @Override public void save(Accommodation accommodation) { store.save(accommodation); }
+            @Override public Optional<Accommodation> findByNumber(int roomNumber) { return store.findByNumber(roomNumber); }
+            @Override public Collection<Accommodation> findAll() { return store.findAll(); }
+            @Override public List<Accommodation> findAll(int afterRoomNumber, int limit) {
+                List<Accommodation> page = store.findAll(afterRoomNumber, limit);
+                if (afterRoomNumber == 0) store.save(edited);
+                return page;
+            }
+        };
+
+        tariff.reprice(RoomType.STANDARD, BigDecimal.valueOf(725));
+
+        assertAll("Concurrent edit",
+                () -> assertEquals(9_999, tariff.applyTo(repository), "Every page but the edited room"),
+                () -> assertSame(edited, store.findByNumber(42).orElseThrow()),
+                () -> assertEquals(BigDecimal.valueOf(725), store.findByNumber(10_000).orElseThrow().getPricePerMonth())
+        );
+    }
+
+    @Test
+    @DisplayName("A pinned snapshot should keep its prices across later reprices")
+    void pinnedSnapshotsAreStable() {
+        Accommodation superior = SuperiorAccommodationFactory.tariffed(tariff).create(201);
+        Accommodation fixed = new Accommodation(202, RoomType.SUPERIOR, BigDecimal.valueOf(999));
+        RateSnapshot pinned = tariff.current();
+
+        tariff.reprice(Map.of(RoomType.STANDARD, BigDecimal.valueOf(710), RoomType.SUPERIOR, BigDecimal.valueOf(980)));
+
+        assertAll("Pinned vs current",
+                () -> assertEquals(BigDecimal.valueOf(950), pinned.priceOf(superior)),
+                () -> assertEquals(BigDecimal.valueOf(980), tariff.current().priceOf(superior)),
+                () -> assertEquals(BigDecimal.valueOf(999), pinned.priceOf(fixed), "Fixed-rate rooms keep their own price"),
+                () -> assertSame(pinned, tariff.version(1).orElseThrow())
+        );
+    }
+
+    @Test
+    @DisplayName("Only the configured number of versions should be retained")
+    void historyIsBounded() {
+        for (int i = 1; i <= 5; i++) {
+            tariff.reprice(RoomType.STANDARD, BigDecimal.valueOf(700 + i));
+        }
+        assertAll("Retention",
+                () -> assertEquals(6, tariff.current().version()),
+                () -> assertTrue(tariff.version(3).isEmpty()),
+                () -> assertTrue(tariff.version(4).isPresent()),
+                () -> assertSame(tariff.current(), tariff.version(6).orElseThrow())
+        );
+    }
+
+    @Test
+    @DisplayName("Concurrent reprices should each publish exactly one version while readers keep going")
+    void concurrentRepricesAndReads() throws Exception {
+        final int writers = 4;
+        final int repricesEach = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        AtomicBoolean done = new AtomicBoolean();
+
+        Future<Long> reader = executor.submit(() -> {
+            long reads = 0;
+            while (!done.get()) {
+                assertNotNull(tariff.rateFor(RoomType.STANDARD).getPricePerMonth());
+                reads++;
+            }
+            return reads;
+        });
+        Future<?>[] futures = new Future<?>[writers];
+        for (int w = 0; w < writers; w++) {
+            final int base = w * 10_000;
+            futures[w] = executor.submit(() -> {
+                for (int i = 0; i < repricesEach; i++) {
+                    tariff.reprice(RoomType.STANDARD, BigDecimal.valueOf(base + i));
+                }
+            });
+        }
+        for (Future<?> f : futures) f.get();
+        done.set(true);
+
+        assertTrue(reader.get() > 0);
+        executor.shutdown();
+        assertEquals(1 + writers * repricesEach, tariff.current().version());
+    }
+}
@@ -0,0 +1,95 @@
+package accommodation.domain.registry;
+
+import accommodation.application.impl.AccommodationServiceImpl;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.singleton.HallRegistry;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardedHallRegistry Test")
+class ShardedHallRegistryTest {
+
+    private final StandardAccommodationFactory factory = new StandardAccommodationFactory();
+    private ShardedHallRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        HallRegistry.resetForTest();
+        registry = ShardedHallRegistry.byRange(4, 100);
+    }
+
+    @Test
+    @DisplayName("Rooms of one hall should land in the same shard")
+    void hallsMapToShards() {
+        assertAll("Routing by hall",
+                () -> assertEquals(registry.shardIndex(101), registry.shardIndex(199)),
+                () -> assertEquals(1, registry.shardIndex(101)),
+                () -> assertEquals(2, registry.shardIndex(250)),
+                () -> assertEquals(1, registry.shardIndex(501), "Hall 5 wraps around to shard 1")
+        );
+    }
+
+    @Test
+    @DisplayName("register() / find() should round-trip and update per-shard stats")
+    void registerFindAndStats() {
+        Accommodation room = factory.create(101);
+        registry.register(room);
+        registry.registerAll(List.of(factory.create(102), factory.create(201)));
+
+        assertSame(room, registry.find(101));
+        assertNull(registry.find(150));
+
+        ShardedHallRegistry.ShardStats hall1 = registry.stats(1);
+        assertAll("Shard 1 stats",
+                () -> assertEquals(2, hall1.size()),
+                () -> assertEquals(2, hall1.registrations()),
+                () -> assertEquals(2, hall1.lookups()),
+                () -> assertEquals(0.5, hall1.hitRatio())
+        );
+        assertEquals(1, registry.stats(2).size());
+    }
+
+    @Test
+    @DisplayName("all() should be a read-only union of every shard")
+    void allIsUnionOfShards() {
+        registry.registerAll(List.of(factory.create(101), factory.create(201), factory.create(301)));
+
+        Map<Integer, Accommodation> all = registry.all();
+        assertEquals(3, all.size());
+        assertEquals(Map.of(101, factory.create(101), 201, factory.create(201), 301, factory.create(301)), Map.copyOf(all));
+        assertThrows(UnsupportedOperationException.class, () -> all.put(401, factory.create(401)));
+    }
+
+    @Test
+    @DisplayName("clearShard() should only affect one shard")
+    void clearShardIsIndependent() {
+        registry.registerAll(List.of(factory.create(101), factory.create(201)));
+        registry.clearShard(1);
+
+        assertNull(registry.find(101));
+        assertNotNull(registry.find(201));
+        assertEquals(0, registry.stats(1).registrations());
+    }
+
+    @Test
+    @DisplayName("Services on separate registries should not share rooms or touch the global registry")
+    void campusesAreIsolated() {
+        ShardedHallRegistry otherCampus = ShardedHallRegistry.byRange(4, 100);
+        AccommodationServiceImpl campusA = new AccommodationServiceImpl(factory, new InMemoryAccommodationRepository(), registry);
+        AccommodationServiceImpl campusB = new AccommodationServiceImpl(factory, new InMemoryAccommodationRepository(), otherCampus);
+
+        campusA.createAccommodation(101);
+
+        assertNotNull(campusA.findByNumber(101));
+        assertNull(campusB.findByNumber(101));
+        assertNull(HallRegistry.instance().find(101));
+    }
+}
@@ -0,0 +1,206 @@
+package accommodation.infrastructure.cache;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CachingAccommodationRepository Test")
+class CachingAccommodationRepositoryTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private static Accommodation room(int number, int price) {
+        return new Accommodation(number, RoomType.STANDARD, BigDecimal.valueOf(price));
+    }
+
+    private CachingAccommodationRepository cache(SlowAccommodationRepository backend, int size) {
+        return new CachingAccommodationRepository(backend, size,
+                Duration.ofMinutes(10), Duration.ofSeconds(30), now::get);
+    }
+
+    @Test
+    @DisplayName("Repeated lookups should hit the cache after one backend load")
+    void readThrough() {
+        SlowAccommodationRepository backend = new SlowAccommodationRepository(0);
+        backend.save(room(101, 700));
+        CachingAccommodationRepository repository = cache(backend, 100);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(101, repository.findByNumber(101).orElseThrow().getNumber());
+        }
+        CachingAccommodationRepository.CacheStats stats = repository.stats();
+        assertAll("Stats",
+                () -> assertEquals(1, backend.lookups.get()),
+                () -> assertEquals(9, stats.hits()),
+                () -> assertEquals(1, stats.misses()),
+                () -> assertEquals(0.9, stats.hitRatio(), 1e-9)
+        );
+    }
+
+    @Test
+    @DisplayName("Absent rooms should be cached until the negative TTL or a save")
+    void negativeCaching() {
+        SlowAccommodationRepository backend = new SlowAccommodationRepository(0);
+        CachingAccommodationRepository repository = cache(backend, 100);
+
+        assertTrue(repository.findByNumber(404).isEmpty());
+        assertTrue(repository.findByNumber(404).isEmpty());
+        assertEquals(1, backend.lookups.get(), "Second probe served from the negative entry");
+        assertEquals(1, repository.stats().negativeHits());
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(repository.findByNumber(404).isEmpty());
+        assertEquals(2, backend.lookups.get(), "Expired negative entry reloads");
+
+        repository.save(room(404, 700));
+        assertTrue(repository.findByNumber(404).isPresent(), "A save replaces the negative entry");
+        assertEquals(2, backend.lookups.get());
+    }
+
+    @Test
+    @DisplayName("Entries should expire after the TTL")
+    void ttlExpiry() {
+        SlowAccommodationRepository backend = new SlowAccommodationRepository(0);
+        backend.save(room(101, 700));
+        CachingAccommodationRepository repository = cache(backend, 100);
+
+        repository.findByNumber(101);
+        now.addAndGet(Duration.ofMinutes(9).toNanos());
+        repository.findByNumber(101);
+        assertEquals(1, backend.lookups.get());
+
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        repository.findByNumber(101);
+        assertEquals(2, backend.lookups.get());
+    }
+
+    @Test
+    @DisplayName("save() should write through so readers see the new room without a reload")
+    void writeThrough() {
+        SlowAccommodationRepository backend = new SlowAccommodationRepository(0);
+        backend.save(room(101, 700));
+        CachingAccommodationRepository repository = cache(backend, 100);
+        repository.findByNumber(101);
+
+        repository.save(room(101, 800));
+        repository.saveAll(List.of(room(102, 900)));
+
+        assertAll("Written through",
+                () -> assertEquals(BigDecimal.valueOf(800), repository.findByNumber(101).orElseThrow().getPricePerMonth()),
+                () -> assertEquals(BigDecimal.valueOf(800), backend.findByNumber(101).orElseThrow().getPricePerMonth()),
+                () -> assertTrue(repository.findByNumber(102).isPresent())
+        );
+        assertEquals(2, backend.lookups.get(), "Initial load plus the direct backend call above");
+    }
+
+    @Test
+    @DisplayName("saveIfAbsent() should work on a backend that relies on the interface default")
+    void saveIfAbsentOnMinimalBackend() {
+        SlowAccommodationRepository backend = new SlowAccommodationRepository(0);
+        CachingAccommodationRepository repository = cache(backend, 100);
+
+        Accommodation first = room(101, 700);
+        assertAll("First one wins",
+                () -> assertSame(first, repository.saveIfAbsent(first)),
+                () -> assertSame(first, repository.saveIfAbsent(room(101, 800))),
+                () -> assertEquals(BigDecimal.valueOf(700), backend.findByNumber(101).orElseThrow().getPricePerMonth())
+        );
+    }
+
+    @Test
+    @DisplayName("Racing saves of one room should leave the cache agreeing with the backend")
+    void racingSavesStayConsistent() throws Exception {
+        SlowAccommodationRepository backend = new SlowAccommodationRepository(0);
+        CachingAccommodationRepository repository = cache(backend, 100);
+
+        final int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int price = 700 + t;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2_000; i++) {
+                    if (i % 2 == 0) repository.save(room(101, price));
+                    else repository.saveAll(List.of(room(101, price), room(102, price)));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+
+        assertAll("Cache matches backend",
+                () -> assertEquals(backend.findByNumber(101), repository.findByNumber(101)),
+                () -> assertEquals(backend.findByNumber(102), repository.findByNumber(102))
+        );
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for one room should share a single backend load")
+    void singleFlight() throws Exception {
+        SlowAccommodationRepository backend = new SlowAccommodationRepository(200);
+        backend.save(room(101, 700));
+        CachingAccommodationRepository repository = cache(backend, 100);
+
+        final int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<Accommodation>>> results = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return repository.findByNumber(101);
+            }));
+        }
+        start.countDown();
+        for (Future<Optional<Accommodation>> result : results) {
+            assertEquals(101, result.get().orElseThrow().getNumber());
+        }
+        executor.shutdown();
+
+        assertEquals(1, backend.lookups.get());
+    }
+
+    @Test
+    @DisplayName("The cache should stay bounded and keep hot rooms through a scan")
+    void boundedAndScanResistant() {
+        SlowAccommodationRepository backend = new SlowAccommodationRepository(0);
+        for (int n = 1; n <= 2_000; n++) {
+            backend.save(room(n, 700));
+        }
+        CachingAccommodationRepository repository = cache(backend, 128);
+        for (int round = 0; round < 2; round++) {
+            for (int n = 1; n <= 50; n++) repository.findByNumber(n);
+        }
+        for (int n = 1_000; n <= 2_000; n++) {
+            repository.findByNumber(n);
+        }
+
+        int before = backend.lookups.get();
+        for (int n = 1; n <= 50; n++) repository.findByNumber(n);
+        assertAll("After scan",
+                () -> assertTrue(repository.stats().size() <= 128),
+                () -> assertTrue(repository.stats().evictions() > 0),
+                () -> assertEquals(before, backend.lookups.get(), "Hot rooms survived the scan")
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package accommodation.infrastructure.cache;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stand-in for a remote backend: every lookup sleeps and is counted. Implements only the
+ * abstract repository methods, like a third-party backend would.
+ */
+class SlowAccommodationRepository implements AccommodationRepository {
+    private final InMemoryAccommodationRepository store = new InMemoryAccommodationRepository();
+    private final long delayMillis;
+    final AtomicInteger lookups = new AtomicInteger();
+
+    SlowAccommodationRepository(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    @Override public void save(Accommodation accommodation) {
+        store.save(accommodation);
+    }
+
+    @Override public Optional<Accommodation> findByNumber(int roomNumber) {
+        lookups.incrementAndGet();
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return store.findByNumber(roomNumber);
+    }
+
+    @Override public Collection<Accommodation> findAll() {
+        return store.findAll();
+    }
+}
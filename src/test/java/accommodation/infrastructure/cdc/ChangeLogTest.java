@@ -0,0 +1,171 @@
+package accommodation.infrastructure.cdc;
+
+import accommodation.application.impl.AccommodationServiceImpl;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import accommodation.infrastructure.repository.ObservableAccommodationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Change Data Capture Test")
+class ChangeLogTest {
+
+    private static Accommodation room(int number, int price) {
+        return new Accommodation(number, RoomType.STANDARD, BigDecimal.valueOf(price));
+    }
+
+    @Test
+    @DisplayName("Service creations should be captured from repository and registry in order")
+    void capturesServiceMutations() {
+        ChangeLog log = new ChangeLog(64);
+        ChangeSubscription subscription = log.subscribe();
+        ObservableAccommodationRepository repository = new ObservableAccommodationRepository(new InMemoryAccommodationRepository());
+        repository.addListener(log.repositoryListener());
+        AccommodationServiceImpl service = new AccommodationServiceImpl(new StandardAccommodationFactory(),
+                repository, new CapturingRoomRegistry(ShardedHallRegistry.byRange(2, 100), log));
+
+        service.createAccommodation(101);
+        service.createAccommodations(102, 101);
+
+        List<ChangeEvent> events = subscription.poll(100, 1, TimeUnit.SECONDS);
+        assertAll("Captured events",
+                () -> assertEquals(6, events.size()),
+                () -> assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L), events.stream().map(ChangeEvent::offset).toList()),
+                () -> assertEquals(ChangeEvent.Source.REPOSITORY, events.get(0).source()),
+                () -> assertEquals(ChangeEvent.Source.REGISTRY, events.get(1).source()),
+                () -> assertTrue(events.get(2).isInsert(), "Room 102 is new"),
+                () -> assertEquals(101, events.get(3).previous().getNumber(), "Room 101 is overwritten"),
+                () -> assertEquals(6, subscription.position()),
+                () -> assertEquals(0, subscription.lag())
+        );
+    }
+
+    @Test
+    @DisplayName("poll() should respect the batch size and time out when idle")
+    void batchingAndTimeout() {
+        ChangeLog log = new ChangeLog(16);
+        try (ChangeSubscription subscription = log.subscribe()) {
+            for (int n = 1; n <= 5; n++) {
+                log.publish(ChangeEvent.Source.REPOSITORY, null, room(n, 700));
+            }
+            assertAll("Batches",
+                    () -> assertEquals(3, subscription.poll(3, 0, TimeUnit.MILLISECONDS).size()),
+                    () -> assertEquals(2, subscription.poll(3, 0, TimeUnit.MILLISECONDS).size()),
+                    () -> assertTrue(subscription.poll(3, 5, TimeUnit.MILLISECONDS).isEmpty())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("A consumer should resume from a retained offset and be refused an overwritten one")
+    void resumeFromOffset() {
+        ChangeLog log = new ChangeLog(8);
+        for (int n = 1; n <= 20; n++) {
+            log.publish(ChangeEvent.Source.REPOSITORY, null, room(n, 700));
+        }
+
+        try (ChangeSubscription resumed = log.subscribe(15)) {
+            List<ChangeEvent> events = resumed.poll(100, 0, TimeUnit.MILLISECONDS);
+            assertAll("Resumed",
+                    () -> assertEquals(12, log.oldestOffset()),
+                    () -> assertEquals(5, events.size()),
+                    () -> assertEquals(16, events.get(0).current().getNumber())
+            );
+        }
+        assertThrows(IllegalArgumentException.class, () -> log.subscribe(3));
+        assertThrows(IllegalArgumentException.class, () -> log.subscribe(21));
+    }
+
+    @Test
+    @DisplayName("A full ring should hold producers back until the subscriber catches up")
+    void backpressure() throws Exception {
+        ChangeLog log = new ChangeLog(4, Duration.ofSeconds(30));
+        ChangeSubscription subscription = log.subscribe();
+        for (int n = 1; n <= 4; n++) {
+            log.publish(ChangeEvent.Source.REPOSITORY, null, room(n, 700));
+        }
+
+        CompletableFuture<Long> blocked = CompletableFuture.supplyAsync(
+                () -> log.publish(ChangeEvent.Source.REPOSITORY, null, room(5, 700)));
+        Thread.sleep(50);
+        assertFalse(blocked.isDone(), "The fifth event must wait for a free slot");
+
+        List<ChangeEvent> received = new ArrayList<>(subscription.poll(2, 0, TimeUnit.MILLISECONDS));
+        assertEquals(4L, blocked.get(5, TimeUnit.SECONDS));
+        received.addAll(subscription.poll(10, 1, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3, 4, 5), received.stream().map(e -> e.current().getNumber()).toList(),
+                "Nothing should be lost or reordered");
+
+        subscription.close();
+        for (int n = 6; n <= 20; n++) {
+            log.publish(ChangeEvent.Source.REPOSITORY, null, room(n, 700));
+        }
+        assertEquals(20, log.nextOffset(), "A closed subscription should no longer gate producers");
+    }
+
+    @Test
+    @DisplayName("A subscription that is never polled should be evicted after the publish timeout")
+    void abandonedSubscriptionIsEvicted() throws Exception {
+        ChangeLog log = new ChangeLog(4, Duration.ofMillis(50));
+        ChangeSubscription abandoned = log.subscribe();
+        ChangeSubscription active = log.subscribe();
+
+        long start = System.nanoTime();
+        for (int n = 1; n <= 12; n++) {
+            log.publish(ChangeEvent.Source.REPOSITORY, null, room(n, 700));
+            if (n % 4 == 0) active.poll(4, 0, TimeUnit.MILLISECONDS);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertAll("Eviction",
+                () -> assertTrue(elapsedMillis < 5_000, "Producers waited " + elapsedMillis + " ms"),
+                () -> assertThrows(IllegalStateException.class, () -> abandoned.poll(1, 0, TimeUnit.MILLISECONDS)),
+                () -> assertEquals(0, active.lag(), "A subscriber that keeps up is not evicted")
+        );
+    }
+
+    @Test
+    @DisplayName("Producers lapping each other on a tiny ring should never overwrite an unread event")
+    void tinyRingStress() throws Exception {
+        final int producers = 4;
+        final int perProducer = 5_000;
+        ChangeLog log = new ChangeLog(2, Duration.ofSeconds(30));
+        ChangeSubscription subscription = log.subscribe();
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    log.publish(ChangeEvent.Source.REPOSITORY, null, room(base + i, 700));
+                    if (i % 97 == 0) Thread.yield();   // let producers fall a lap behind each other
+                }
+            });
+        }
+        executor.shutdown();
+
+        long expected = 0;
+        while (expected < producers * perProducer) {
+            List<ChangeEvent> batch = subscription.poll(16, 5, TimeUnit.SECONDS);
+            assertFalse(batch.isEmpty(), "Ring stalled at offset " + expected);
+            for (ChangeEvent event : batch) {
+                assertEquals(expected++, event.offset(), "Events should arrive gap-free and in offset order");
+            }
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, subscription.lag());
+    }
+}
@@ -0,0 +1,99 @@
+package accommodation.infrastructure.codec;
+
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.factory.SuperiorAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RateCard;
+import accommodation.domain.model.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccommodationCodec Test")
+class AccommodationCodecTest {
+
+    private static List<Accommodation> sampleRooms() {
+        List<Accommodation> rooms = new ArrayList<>();
+        for (int n = 1; n <= 1_000; n++) {
+            rooms.add(n % 3 == 0 ? new SuperiorAccommodationFactory().create(n * 97)
+                                 : new StandardAccommodationFactory().create(n));
+        }
+        rooms.add(new Accommodation(Integer.MAX_VALUE, RoomType.SUPERIOR, new BigDecimal("950.55")));
+        rooms.add(new Accommodation(128, RoomType.STANDARD, new BigDecimal("700.00")));
+        return rooms;
+    }
+
+    @Test
+    @DisplayName("Batches should round-trip through heap, direct and little-endian buffers")
+    void batchRoundTrip() {
+        List<Accommodation> rooms = sampleRooms();
+        int size = AccommodationCodec.sizeOf(rooms);
+
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(size), ByteBuffer.allocateDirect(size),
+                ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN))) {
+            AccommodationCodec.encodeBatch(buffer, rooms);
+            assertEquals(size, buffer.position(), "sizeOf() should be exact");
+            buffer.flip();
+            List<Accommodation> decoded = AccommodationCodec.decodeBatch(buffer);
+
+            assertAll("Round trip via " + buffer,
+                    () -> assertEquals(rooms, decoded),
+                    () -> assertFalse(buffer.hasRemaining()),
+                    () -> assertEquals(new BigDecimal("700.00"), decoded.get(decoded.size() - 1).getPricePerMonth(),
+                            "Scale should be preserved")
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Default-priced rooms should decode onto the shared rate card")
+    void canonicalCardsAreShared() {
+        ByteBuffer buffer = ByteBuffer.allocate(AccommodationCodec.MAX_RECORD_SIZE);
+        AccommodationCodec.encode(buffer, new SuperiorAccommodationFactory().create(201));
+        buffer.flip();
+
+        assertSame(RateCard.SUPERIOR, AccommodationCodec.decode(buffer).getRateCard());
+    }
+
+    @Test
+    @DisplayName("Record layout should be varint number, type, scale and big-endian price")
+    void recordLayout() {
+        ByteBuffer buffer = ByteBuffer.allocate(AccommodationCodec.MAX_RECORD_SIZE);
+        AccommodationCodec.encode(buffer, new Accommodation(300, RoomType.SUPERIOR, new BigDecimal("12.34")));
+
+        assertAll("Layout",
+                () -> assertEquals(12, buffer.position()),
+                () -> assertEquals((byte) 0xAC, buffer.get(0), "300 = 0b10_0101100, low group first"),
+                () -> assertEquals(0x02, buffer.get(1)),
+                () -> assertEquals(RoomType.SUPERIOR.ordinal(), buffer.get(2)),
+                () -> assertEquals(2, buffer.get(3)),
+                () -> assertEquals(1234L, buffer.getLong(4)),
+                () -> assertEquals(1, AccommodationCodec.varintSize(127)),
+                () -> assertEquals(5, AccommodationCodec.varintSize(Integer.MAX_VALUE))
+        );
+    }
+
+    @Test
+    @DisplayName("Unknown versions, unknown types and oversized prices should be rejected")
+    void rejectsBadInput() {
+        ByteBuffer wrongVersion = ByteBuffer.wrap(new byte[] {9, 0});
+        ByteBuffer badType = ByteBuffer.allocate(AccommodationCodec.MAX_RECORD_SIZE);
+        AccommodationCodec.putVarint(badType, 1);
+        badType.put((byte) 42).put((byte) 0).putLong(700).flip();
+        Accommodation huge = new Accommodation(1, RoomType.STANDARD, new BigDecimal("1e30").setScale(2));
+
+        assertAll("Rejected",
+                () -> assertThrows(IllegalArgumentException.class, () -> AccommodationCodec.decodeBatch(wrongVersion)),
+                () -> assertThrows(IllegalArgumentException.class, () -> AccommodationCodec.decode(badType)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> AccommodationCodec.encode(ByteBuffer.allocate(32), huge))
+        );
+    }
+}
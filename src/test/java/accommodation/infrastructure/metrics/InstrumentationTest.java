@@ -0,0 +1,141 @@
+package accommodation.infrastructure.metrics;
+
+import accommodation.application.AccommodationService;
+import accommodation.application.impl.AccommodationServiceImpl;
+import accommodation.domain.factory.StandardAccommodationFactory;
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.domain.registry.RepositoryRegistryView;
+import accommodation.domain.registry.RoomRegistry;
+import accommodation.domain.registry.ShardedHallRegistry;
+import accommodation.domain.repository.AccommodationRepository;
+import accommodation.domain.singleton.HallRegistry;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import accommodation.infrastructure.repository.PrimitiveAccommodationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Instrumentation Test")
+class InstrumentationTest {
+
+    private final LocalMetrics metrics = new LocalMetrics(1);
+
+    @BeforeEach
+    void setUp() {
+        HallRegistry.resetForTest();
+    }
+
+    private AccommodationService instrumentedService(AccommodationRepository repository, RoomRegistry registry) {
+        AccommodationService service = new AccommodationServiceImpl(new StandardAccommodationFactory(),
+                InstrumentedAccommodationRepository.wrap(repository, metrics),
+                InstrumentedRoomRegistry.wrap(registry, metrics));
+        return InstrumentedAccommodationService.wrap(service, metrics);
+    }
+
+    @Test
+    @DisplayName("Disabled metrics should leave the components unwrapped")
+    void noopDoesNotWrap() {
+        InMemoryAccommodationRepository repository = new InMemoryAccommodationRepository();
+        RoomRegistry registry = ShardedHallRegistry.byRange(2, 100);
+
+        assertAll("No decorators",
+                () -> assertSame(repository, InstrumentedAccommodationRepository.wrap(repository, Metrics.noop())),
+                () -> assertSame(registry, InstrumentedRoomRegistry.wrap(registry, Metrics.noop())),
+                () -> assertFalse(Metrics.noop().enabled())
+        );
+    }
+
+    @Test
+    @DisplayName("Service, repository and registry calls should be counted, timed and hit/miss tracked")
+    void callsAreRecorded() {
+        AccommodationService service = instrumentedService(new InMemoryAccommodationRepository(),
+                ShardedHallRegistry.byRange(2, 100));
+        service.createAccommodation(101);
+        service.createAccommodation(102);
+        service.tryCreate(101);
+        service.findByNumber(101);
+        service.findByNumber(999);
+        service.listAll();
+
+        Map<String, Number> snapshot = metrics.snapshot();
+        assertAll("Snapshot",
+                () -> assertEquals(2L, snapshot.get("service.createAccommodation.count")),
+                () -> assertEquals(1L, snapshot.get("service.tryCreate.conflicts")),
+                () -> assertEquals(1L, snapshot.get("service.findByNumber.hits")),
+                () -> assertEquals(1L, snapshot.get("service.findByNumber.misses")),
+                () -> assertEquals(1L, snapshot.get("registry.find.hits")),
+                () -> assertEquals(2L, snapshot.get("repository.save.count")),
+                () -> assertEquals(1L, snapshot.get("repository.saveIfAbsent.count")),
+                () -> assertEquals(2L, snapshot.get("repository.size")),
+                () -> assertEquals(2L, snapshot.get("registry.size")),
+                () -> assertTrue(snapshot.get("service.createAccommodation.p99").longValue() > 0)
+        );
+    }
+
+    @Test
+    @DisplayName("The registry size gauge should not copy the estate behind a repository view")
+    void registrySizeGaugeIsCheap() {
+        InMemoryAccommodationRepository store = new InMemoryAccommodationRepository();
+        store.save(new Accommodation(101, RoomType.STANDARD, BigDecimal.valueOf(700)));
+        AccommodationRepository noCopies = new AccommodationRepository() {
+            @Override public void save(Accommodation accommodation) { store.save(accommodation); }
+            @Override public Optional<Accommodation> findByNumber(int roomNumber) { return store.findByNumber(roomNumber); }
+            @Override public Collection<Accommodation> findAll() { throw new AssertionError("findAll() copies the estate"); }
+            @Override public int size() { return store.size(); }
+        };
+        InstrumentedRoomRegistry.wrap(new RepositoryRegistryView(noCopies), metrics);
+
+        assertEquals(1L, metrics.snapshot().get("registry.size"));
+    }
+
+    @Test
+    @DisplayName("Primitive repositories should report capacity and resize events")
+    void resizeEventsAreGauged() {
+        AccommodationService service = instrumentedService(new PrimitiveAccommodationRepository(16),
+                ShardedHallRegistry.byRange(2, 100));
+        service.createAccommodations(java.util.stream.IntStream.rangeClosed(1, 1_000));
+
+        Map<String, Number> snapshot = metrics.snapshot();
+        assertAll("Sizing",
+                () -> assertTrue(snapshot.get("repository.resizes").longValue() >= 1),
+                () -> assertTrue(snapshot.get("repository.capacity").longValue() >= 1_000),
+                () -> assertEquals(1L, snapshot.get("repository.saveAll.count"))
+        );
+    }
+
+    @Test
+    @DisplayName("The JMX exporter should expose every snapshot entry as an attribute")
+    void jmxExport() throws Exception {
+        AccommodationService service = instrumentedService(new InMemoryAccommodationRepository(), HallRegistry.instance());
+        service.createAccommodation(301);
+
+        AtomicInteger gaugeReads = new AtomicInteger();
+        metrics.gauge("test.reads", gaugeReads::incrementAndGet);
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = new ObjectName(JmxMetricsExporter.DEFAULT_NAME);
+        try (JmxMetricsExporter exporter = JmxMetricsExporter.register(metrics, server, name)) {
+            assertAll("MBean",
+                    () -> assertEquals(1L, server.getAttribute(name, "service.createAccommodation.count")),
+                    () -> assertTrue(Arrays.stream(server.getMBeanInfo(name).getAttributes())
+                            .anyMatch(a -> a.getName().equals("repository.save.p99"))),
+                    () -> assertEquals(0, gaugeReads.get(), "Describing and reading other attributes should not evaluate gauges"),
+                    () -> assertEquals(1L, server.getAttribute(name, "test.reads"))
+            );
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
@@ -0,0 +1,65 @@
+package accommodation.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyHistogram Test")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Every value should fall inside its bucket, with bounded relative error")
+    void bucketsCoverValues() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(0, Long.MAX_VALUE >>> random.nextInt(63));
+            int bucket = LatencyHistogram.bucketOf(value);
+            long high = LatencyHistogram.highestValueIn(bucket);
+            assertTrue(bucket < LatencyHistogram.BUCKET_COUNT);
+            assertTrue(value <= high, () -> value + " above its bucket bound " + high);
+            assertTrue(high - value <= Math.max(0, value / 32), () -> value + " vs bound " + high);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueIn(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("Percentiles should be within about 3% of the exact values")
+    void percentilesAreAccurate() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        SplittableRandom random = new SplittableRandom(5);
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + (long) (random.nextDouble() * random.nextDouble() * 5_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double p : new double[] {50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long reported = histogram.percentile(p);
+            assertTrue(reported >= exact && reported <= exact + exact / 32,
+                    () -> "p" + p + ": exact " + exact + ", reported " + reported);
+        }
+        assertAll("Summary",
+                () -> assertEquals(values.length, histogram.count()),
+                () -> assertEquals(values[values.length - 1], histogram.max()),
+                () -> assertEquals(values[values.length - 1], histogram.percentile(100)),
+                () -> assertEquals(Arrays.stream(values).average().orElseThrow(), histogram.mean(), 1e-6)
+        );
+    }
+
+    @Test
+    @DisplayName("An empty histogram should report zeros")
+    void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertAll("Empty",
+                () -> assertEquals(0, histogram.count()),
+                () -> assertEquals(0, histogram.percentile(99)),
+                () -> assertEquals(0.0, histogram.mean())
+        );
+    }
+}
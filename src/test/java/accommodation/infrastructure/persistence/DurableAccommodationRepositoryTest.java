@@ -0,0 +1,205 @@
+package accommodation.infrastructure.persistence;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import accommodation.infrastructure.repository.InMemoryAccommodationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DurableAccommodationRepository Test")
+class DurableAccommodationRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private DurableAccommodationRepository open(long segmentBytes, long snapshotEvery) throws IOException {
+        return new DurableAccommodationRepository(new InMemoryAccommodationRepository(), dir, segmentBytes, snapshotEvery);
+    }
+
+    private static Accommodation room(int number, int price) {
+        return new Accommodation(number, number % 2 == 0 ? RoomType.STANDARD : RoomType.SUPERIOR, BigDecimal.valueOf(price));
+    }
+
+    @Test
+    @DisplayName("Saved rooms should be recovered from the log after reopening")
+    void recoversFromLog() throws IOException {
+        try (DurableAccommodationRepository repository = open(1024, 0)) {
+            for (int n = 1; n <= 200; n++) {
+                repository.save(room(n, 700));
+            }
+            repository.save(room(5, 1234));
+            assertTrue(repository.segmentCount() > 1, "Small segments should have rolled");
+        }
+
+        try (DurableAccommodationRepository recovered = open(1024, 0)) {
+            assertAll("Recovered state",
+                    () -> assertEquals(200, recovered.findAll().size()),
+                    () -> assertEquals(BigDecimal.valueOf(1234), recovered.findByNumber(5).orElseThrow().getPricePerMonth(),
+                            "Later mutations should win on replay"),
+                    () -> assertEquals(RoomType.STANDARD, recovered.findByNumber(200).orElseThrow().getType())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("checkpoint() should snapshot state and drop covered segments")
+    void checkpointCompactsLog() throws IOException {
+        try (DurableAccommodationRepository repository = open(1024, 0)) {
+            for (int n = 1; n <= 200; n++) {
+                repository.save(room(n, 700));
+            }
+            int before = repository.segmentCount();
+            repository.checkpoint();
+            assertEquals(200, repository.snapshotLsn());
+            assertTrue(repository.segmentCount() < before, "Covered segments should be deleted");
+
+            repository.save(room(201, 800));
+            repository.save(room(1, 900));
+        }
+
+        try (DurableAccommodationRepository recovered = open(1024, 0)) {
+            assertAll("Snapshot + tail replay",
+                    () -> assertEquals(201, recovered.findAll().size()),
+                    () -> assertEquals(BigDecimal.valueOf(900), recovered.findByNumber(1).orElseThrow().getPricePerMonth()),
+                    () -> assertEquals(200, recovered.snapshotLsn())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshots should be taken automatically every N records")
+    void automaticSnapshots() throws IOException {
+        try (DurableAccommodationRepository repository = open(4096, 50)) {
+            for (int n = 1; n <= 120; n++) {
+                repository.save(room(n, 700));
+            }
+            assertEquals(100, repository.snapshotLsn());
+        }
+        try (DurableAccommodationRepository recovered = open(4096, 50)) {
+            assertEquals(120, recovered.findAll().size());
+        }
+    }
+
+    @Test
+    @DisplayName("A torn record at the tail should be discarded, earlier records kept")
+    void tornTailIsTruncated() throws IOException {
+        try (DurableAccommodationRepository repository = open(1 << 20, 0)) {
+            repository.save(room(1, 700));
+            repository.save(room(2, 700));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.filter(p -> p.getFileName().toString().endsWith(".log"))
+                    .filter(p -> p.toFile().length() > 0)
+                    .findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (DurableAccommodationRepository recovered = open(1 << 20, 0)) {
+            assertEquals(2, recovered.findAll().size());
+            recovered.save(room(3, 700));
+        }
+        try (DurableAccommodationRepository recovered = open(1 << 20, 0)) {
+            assertEquals(List.of(1, 2, 3),
+                    recovered.findAll().stream().map(Accommodation::getNumber).sorted().toList(),
+                    "Appends after a truncated tail should replay cleanly");
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent saves should all be durable")
+    void concurrentSavesAreDurable() throws Exception {
+        final int threadCount = 8;
+        final int roomsPerThread = 250;
+        try (DurableAccommodationRepository repository = open(16 * 1024, 0)) {
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            for (int t = 0; t < threadCount; t++) {
+                final int base = t * roomsPerThread + 1;
+                executor.submit(() -> {
+                    start.await();
+                    for (int n = base; n < base + roomsPerThread; n++) {
+                        repository.save(room(n, 700));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+
+        try (DurableAccommodationRepository recovered = open(16 * 1024, 0)) {
+            assertEquals(threadCount * roomsPerThread, recovered.findAll().size());
+        }
+    }
+
+    @Test
+    @DisplayName("A batch with a room that cannot be logged should leave no trace")
+    void rejectedBatchIsNotLogged() throws IOException {
+        Accommodation unpersistable = new Accommodation(2, RoomType.STANDARD,
+                new BigDecimal(BigInteger.ONE.shiftLeft(4_096)));
+        try (DurableAccommodationRepository repository = open(1 << 20, 0)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> repository.saveAll(List.of(room(1, 700), unpersistable)));
+            repository.save(room(3, 700));
+            assertEquals(List.of(3), repository.findAll().stream().map(Accommodation::getNumber).toList());
+        }
+        try (DurableAccommodationRepository recovered = open(1 << 20, 0)) {
+            assertEquals(List.of(3), recovered.findAll().stream().map(Accommodation::getNumber).toList(),
+                    "The rejected batch's first room should not have been logged either");
+        }
+    }
+
+    @Test
+    @DisplayName("A truncated snapshot should be reported as corrupt")
+    void truncatedSnapshotIsCorrupt() throws IOException {
+        Files.write(dir.resolve(String.format("snapshot-%020d.snap", 7)), new byte[] {0x55, 0x57, 0x45});
+        IOException e = assertThrows(IOException.class, () -> open(1 << 20, 0));
+        assertTrue(e.getMessage().startsWith("corrupt snapshot"));
+    }
+
+    @Test
+    @DisplayName("Overlapping checkpoints should keep the newest snapshot")
+    void concurrentCheckpoints() throws Exception {
+        try (DurableAccommodationRepository repository = open(4096, 0)) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            for (int t = 0; t < 4; t++) {
+                final int base = t * 500 + 1;
+                executor.submit(() -> {
+                    for (int n = base; n < base + 500; n++) {
+                        repository.save(room(n, 700));
+                        if (n % 50 == 0) repository.checkpoint();
+                    }
+                    return null;
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+            repository.checkpoint();
+            assertEquals(2_000, repository.snapshotLsn());
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.filter(p -> p.getFileName().toString().endsWith(".snap")).count());
+        }
+        try (DurableAccommodationRepository recovered = open(4096, 0)) {
+            assertEquals(2_000, recovered.findAll().size());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package accommodation.infrastructure.repository;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryAccommodationRepository Secondary Index Test")
+class InMemoryAccommodationRepositoryTest {
+
+    private InMemoryAccommodationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryAccommodationRepository();
+        repository.save(new Accommodation(101, RoomType.STANDARD, BigDecimal.valueOf(700)));
+        repository.save(new Accommodation(102, RoomType.STANDARD, BigDecimal.valueOf(720)));
+        repository.save(new Accommodation(201, RoomType.SUPERIOR, BigDecimal.valueOf(850)));
+        repository.save(new Accommodation(202, RoomType.SUPERIOR, BigDecimal.valueOf(950)));
+    }
+
+    private static List<Integer> numbers(Collection<Accommodation> rooms) {
+        return rooms.stream().map(Accommodation::getNumber).sorted().toList();
+    }
+
+    @Test
+    @DisplayName("replace() should only swap a room that is still the one the caller read")
+    void replaceIsConditional() {
+        Accommodation read = repository.findByNumber(101).orElseThrow();
+        Accommodation repriced = new Accommodation(101, RoomType.STANDARD, BigDecimal.valueOf(710));
+        Accommodation stale = new Accommodation(101, RoomType.STANDARD, BigDecimal.valueOf(650));
+
+        assertAll("Conditional replace",
+                () -> assertFalse(repository.replace(stale, repriced), "Stored room differs"),
+                () -> assertTrue(repository.replace(read, repriced)),
+                () -> assertSame(repriced, repository.findByNumber(101).orElseThrow()),
+                () -> assertEquals(List.of(101), numbers(repository.findByPriceBetween(BigDecimal.valueOf(710), BigDecimal.valueOf(710)))),
+                () -> assertTrue(repository.findByPriceBetween(BigDecimal.valueOf(700), BigDecimal.valueOf(700)).isEmpty()),
+                () -> assertFalse(repository.replace(read, repriced), "Already replaced"),
+                () -> assertFalse(repository.replace(new Accommodation(999, RoomType.STANDARD, BigDecimal.ONE),
+                        new Accommodation(999, RoomType.STANDARD, BigDecimal.TEN)), "Unknown room"),
+                () -> assertThrows(IllegalArgumentException.class, () -> repository.replace(read,
+                        new Accommodation(102, RoomType.STANDARD, BigDecimal.TEN)))
+        );
+    }
+
+    @Test
+    @DisplayName("findByType() and countByType() should use the type index")
+    void findByType() {
+        assertAll("Type index",
+                () -> assertEquals(List.of(101, 102), numbers(repository.findByType(RoomType.STANDARD))),
+                () -> assertEquals(List.of(201, 202), numbers(repository.findByType(RoomType.SUPERIOR))),
+                () -> assertEquals(2, repository.countByType(RoomType.SUPERIOR))
+        );
+    }
+
+    @Test
+    @DisplayName("findByPriceBetween() should be inclusive and ignore BigDecimal scale")
+    void findByPriceBetween() {
+        assertAll("Price index",
+                () -> assertEquals(List.of(102, 201), numbers(repository.findByPriceBetween(new BigDecimal("720.00"), BigDecimal.valueOf(850)))),
+                () -> assertEquals(List.of(), repository.findByPriceBetween(BigDecimal.valueOf(951), BigDecimal.valueOf(2000))),
+                () -> assertEquals(List.of(), repository.findByPriceBetween(BigDecimal.valueOf(900), BigDecimal.valueOf(800)))
+        );
+    }
+
+    @Test
+    @DisplayName("Overwriting a room should move it between index buckets")
+    void overwriteMovesIndexEntries() {
+        repository.save(new Accommodation(101, RoomType.SUPERIOR, BigDecimal.valueOf(900)));
+
+        assertAll("Re-indexed room",
+                () -> assertEquals(List.of(102), numbers(repository.findByType(RoomType.STANDARD))),
+                () -> assertEquals(3, repository.countByType(RoomType.SUPERIOR)),
+                () -> assertEquals(List.of(101, 201), numbers(repository.findByPriceBetween(BigDecimal.valueOf(800), BigDecimal.valueOf(900)))),
+                () -> assertEquals(List.of(), repository.findByPriceBetween(BigDecimal.valueOf(700), BigDecimal.valueOf(700)))
+        );
+    }
+
+    @Test
+    @DisplayName("Indexes should match the primary store after concurrent overwrites and batches")
+    void indexesConsistentUnderConcurrentSaves() throws InterruptedException {
+        final int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 2_000; i++) {
+                        int number = 1 + random.nextInt(50);
+                        RoomType type = random.nextBoolean() ? RoomType.STANDARD : RoomType.SUPERIOR;
+                        Accommodation room = new Accommodation(number, type, BigDecimal.valueOf(600 + random.nextInt(10) * 50));
+                        if (i % 3 == 0) {
+                            repository.saveAll(List.of(room, new Accommodation(1 + random.nextInt(50), type, BigDecimal.valueOf(650))));
+                        } else {
+                            repository.save(room);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        long total = repository.countByType(RoomType.STANDARD) + repository.countByType(RoomType.SUPERIOR);
+        assertEquals(repository.findAll().size(), total, "Every room should be in exactly one type bucket");
+        assertEquals(repository.findAll().size(),
+                repository.findByPriceBetween(BigDecimal.ZERO, BigDecimal.valueOf(10_000)).size(),
+                "Every room should be in exactly one price bucket");
+        for (Accommodation room : repository.findAll()) {
+            assertTrue(repository.findByType(room.getType()).contains(room));
+        }
+    }
+
+    @Test
+    @DisplayName("findAll(after, limit) should page through rooms in number order")
+    void keysetPaging() {
+        List<Integer> first = numbers(repository.findAll(0, 3));
+        List<Integer> second = numbers(repository.findAll(first.get(first.size() - 1), 3));
+
+        assertAll("Keyset pages",
+                () -> assertEquals(List.of(101, 102, 201), first),
+                () -> assertEquals(List.of(202), second),
+                () -> assertEquals(List.of(), repository.findAll(202, 3)),
+                () -> assertEquals(List.of(101, 102, 201, 202),
+                        repository.streamAll().map(Accommodation::getNumber).toList(),
+                        "streamAll() should be ordered by room number")
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package accommodation.infrastructure.repository;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedAccommodationRepository Test")
+class MappedAccommodationRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("save() then findByNumber() should round-trip number, type and price")
+    void saveAndFind() throws IOException {
+        try (MappedAccommodationRepository repository = new MappedAccommodationRepository(dir.resolve("rooms.dat"))) {
+            Accommodation room = new Accommodation(101, RoomType.SUPERIOR, new BigDecimal("950.55"));
+            repository.save(room);
+
+            assertAll("Fixed-width record round trip",
+                    () -> assertEquals(room, repository.findByNumber(101).orElseThrow()),
+                    () -> assertEquals(new BigDecimal("950.55"), repository.findByNumber(101).orElseThrow().getPricePerMonth()),
+                    () -> assertTrue(repository.findByNumber(102).isEmpty()),
+                    () -> assertEquals(1, repository.size())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Rooms should survive closing and reopening the file")
+    void roomsSurviveReopen() throws IOException {
+        Path file = dir.resolve("rooms.dat");
+        try (MappedAccommodationRepository repository = new MappedAccommodationRepository(file)) {
+            repository.save(new Accommodation(101, RoomType.STANDARD, BigDecimal.valueOf(700)));
+            repository.save(new Accommodation(205, RoomType.SUPERIOR, BigDecimal.valueOf(950)));
+            repository.save(new Accommodation(101, RoomType.SUPERIOR, BigDecimal.valueOf(950)));
+        }
+
+        try (MappedAccommodationRepository reopened = new MappedAccommodationRepository(file)) {
+            assertAll("Reopened repository",
+                    () -> assertEquals(2, reopened.size(), "Overwrite should not be counted twice"),
+                    () -> assertEquals(RoomType.SUPERIOR, reopened.findByNumber(101).orElseThrow().getType()),
+                    () -> assertEquals(List.of(101, 205),
+                            reopened.findAll().stream().map(Accommodation::getNumber).toList(),
+                            "findAll() should list rooms in room-number order")
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Mapping should grow for room numbers beyond the initial size")
+    void mappingGrows() throws IOException {
+        try (MappedAccommodationRepository repository = new MappedAccommodationRepository(dir.resolve("rooms.dat"), 16)) {
+            repository.save(new Accommodation(100_000, RoomType.STANDARD, BigDecimal.valueOf(700)));
+
+            assertTrue(repository.findByNumber(100_000).isPresent());
+            assertTrue(Files.size(dir.resolve("rooms.dat")) >= 100_001L * MappedAccommodationRepository.RECORD_SIZE);
+        }
+    }
+
+    @Test
+    @DisplayName("Prices that do not fit the record should be rejected")
+    void oversizedPriceRejected() throws IOException {
+        try (MappedAccommodationRepository repository = new MappedAccommodationRepository(dir.resolve("rooms.dat"))) {
+            Accommodation huge = new Accommodation(1, RoomType.STANDARD, new BigDecimal("1e30").setScale(2));
+            assertThrows(IllegalArgumentException.class, () -> repository.save(huge));
+        }
+    }
+
+    @Test
+    @DisplayName("A batch with one unfit price should write nothing")
+    void unfitBatchWritesNothing() throws IOException {
+        try (MappedAccommodationRepository repository = new MappedAccommodationRepository(dir.resolve("rooms.dat"))) {
+            List<Accommodation> batch = List.of(
+                    new Accommodation(1, RoomType.STANDARD, BigDecimal.valueOf(500)),
+                    new Accommodation(2, RoomType.STANDARD, new BigDecimal("1e30").setScale(2)));
+
+            assertThrows(IllegalArgumentException.class, () -> repository.saveAll(batch));
+            assertAll(
+                    () -> assertEquals(0, repository.size()),
+                    () -> assertTrue(repository.findByNumber(1).isEmpty()));
+        }
+    }
+
+    @Test
+    @DisplayName("Reads after close() should fail with IllegalStateException")
+    void readsAfterCloseRejected() throws IOException {
+        MappedAccommodationRepository repository = new MappedAccommodationRepository(dir.resolve("rooms.dat"));
+        repository.save(new Accommodation(1, RoomType.STANDARD, BigDecimal.valueOf(500)));
+        repository.close();
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> repository.findByNumber(1)),
+                () -> assertThrows(IllegalStateException.class, repository::size),
+                () -> assertThrows(IllegalStateException.class, () -> repository.findAll(0, 10)),
+                () -> assertThrows(IllegalStateException.class, repository::streamAll));
+    }
+
+    @Test
+    @DisplayName("Opening a file that is not a room file should fail")
+    void foreignFileRejected() throws IOException {
+        Path file = dir.resolve("other.dat");
+        Files.write(file, new byte[64]);
+
+        assertThrows(IOException.class, () -> new MappedAccommodationRepository(file));
+    }
+
+    @Test
+    @DisplayName("Paging and streaming should walk slots in room-number order")
+    void pagingAndStreaming() throws IOException {
+        try (MappedAccommodationRepository repository = new MappedAccommodationRepository(dir.resolve("rooms.dat"))) {
+            for (int n = 2; n <= 20_000; n += 2) {
+                repository.save(new Accommodation(n, RoomType.STANDARD, BigDecimal.valueOf(700)));
+            }
+
+            assertAll("Ordered access",
+                    () -> assertEquals(List.of(102, 104, 106),
+                            repository.findAll(100, 3).stream().map(Accommodation::getNumber).toList()),
+                    () -> assertEquals(10_000, repository.streamAll().parallel().count()),
+                    () -> assertEquals(repository.streamAll().map(Accommodation::getNumber).toList(),
+                            repository.streamAll().parallel().map(Accommodation::getNumber).toList(),
+                            "Parallel stream should keep encounter order")
+            );
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package accommodation.infrastructure.repository;
+
+import accommodation.domain.model.Accommodation;
+import accommodation.domain.model.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrimitiveAccommodationRepository Test")
+class PrimitiveAccommodationRepositoryTest {
+
+    private PrimitiveAccommodationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new PrimitiveAccommodationRepository();
+    }
+
+    private static Accommodation room(int number) {
+        return new Accommodation(number, RoomType.STANDARD, BigDecimal.valueOf(700));
+    }
+
+    @Test
+    @DisplayName("save() then findByNumber() should return the room")
+    void saveAndFind() {
+        Accommodation room = room(101);
+        repository.save(room);
+
+        assertAll("Lookup by primitive key",
+                () -> assertEquals(room, repository.findByNumber(101).orElseThrow()),
+                () -> assertSame(room, repository.get(101)),
+                () -> assertTrue(repository.findByNumber(102).isEmpty()),
+                () -> assertNull(repository.get(102))
+        );
+    }
+
+    @Test
+    @DisplayName("Saving an existing room number should replace it without growing the store")
+    void saveOverwritesExistingRoom() {
+        repository.save(room(101));
+        Accommodation superior = new Accommodation(101, RoomType.SUPERIOR, BigDecimal.valueOf(950));
+        repository.save(superior);
+
+        assertEquals(1, repository.findAll().size());
+        assertEquals(RoomType.SUPERIOR, repository.get(101).getType());
+    }
+
+    @Test
+    @DisplayName("Table should grow past its initial capacity and keep every room")
+    void tableGrowsAndKeepsRooms() {
+        int initialCapacity = repository.capacity();
+        for (int n = 1; n <= 10_000; n++) {
+            repository.save(room(n));
+        }
+
+        assertTrue(repository.capacity() > initialCapacity, "Table should have been resized");
+        assertEquals(10_000, repository.findAll().size());
+        Set<Integer> seen = new HashSet<>();
+        for (Accommodation a : repository.findAll()) {
+            seen.add(a.getNumber());
+        }
+        assertEquals(10_000, seen.size(), "findAll() should visit every room exactly once");
+        for (int n = 1; n <= 10_000; n++) {
+            assertEquals(n, repository.get(n).getNumber());
+        }
+    }
+
+    @Test
+    @DisplayName("saveAll() should store a batch with a single resize")
+    void saveAllStoresBatch() {
+        List<Accommodation> batch = new ArrayList<>();
+        for (int n = 1; n <= 5_000; n++) {
+            batch.add(room(n));
+        }
+        int resizesBefore = repository.resizeCount();
+        repository.saveAll(batch);
+
+        assertTrue(repository.resizeCount() - resizesBefore <= 1,
+                "Resized " + (repository.resizeCount() - resizesBefore) + " times for one batch");
+        assertEquals(5_000, repository.findAll().size());
+        assertEquals(List.of(batch.get(0), batch.get(4_999)),
+                repository.findAllByNumbers(new int[] {1, 9_999, 5_000}));
+    }
+
+    @Test
+    @DisplayName("streamAll() and pages should walk rooms in number order")
+    void orderedAccess() {
+        for (int n = 3_000; n > 0; n -= 7) {
+            repository.save(room(n));
+        }
+        List<Integer> expected = repository.findAll().stream().map(Accommodation::getNumber).sorted().toList();
+
+        List<Integer> paged = new ArrayList<>();
+        for (List<Accommodation> page = repository.findAll(0, 100); !page.isEmpty();
+             page = repository.findAll(page.get(page.size() - 1).getNumber(), 100)) {
+            page.forEach(room -> paged.add(room.getNumber()));
+        }
+        assertAll("Ordered",
+                () -> assertEquals(expected, repository.streamAll().map(Accommodation::getNumber).toList()),
+                () -> assertEquals(expected, paged)
+        );
+    }
+
+    @Test
+    @DisplayName("findAll() should be read-only")
+    void findAllIsReadOnly() {
+        repository.save(room(101));
+        assertThrows(UnsupportedOperationException.class, () -> repository.findAll().add(room(102)));
+    }
+
+    @Test
+    @DisplayName("Concurrent writers and readers should not lose rooms")
+    void concurrentSavesAndLookups() throws InterruptedException {
+        final int threadCount = 8;
+        final int roomsPerThread = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount * 2);
+        AtomicInteger mismatches = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount * 2);
+
+        for (int t = 0; t < threadCount; t++) {
+            final int base = t * roomsPerThread + 1;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int n = base; n < base + roomsPerThread; n++) {
+                        repository.save(room(n));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int n = base; n < base + roomsPerThread; n++) {
+                        Accommodation found = repository.get(n);
+                        if (found != null && found.getNumber() != n) mismatches.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS), "All threads should complete within timeout");
+        executor.shutdown();
+
+        assertEquals(0, mismatches.get(), "Readers should never see a room under another number");
+        assertEquals(threadCount * roomsPerThread, repository.findAll().size());
+        for (int n = 1; n <= threadCount * roomsPerThread; n++) {
+            assertNotNull(repository.get(n), "Room " + n + " should be present");
+        }
+    }
+
+    @Test
+    @DisplayName("findAll(after, limit) should return the next rooms in number order")
+    void keysetPaging() {
+        for (int n = 1000; n >= 1; n--) {
+            repository.save(room(n));
+        }
+
+        List<Accommodation> page = repository.findAll(500, 3);
+        assertEquals(List.of(501, 502, 503), page.stream().map(Accommodation::getNumber).toList());
+        assertEquals(List.of(1000), repository.findAll(999, 10).stream().map(Accommodation::getNumber).toList());
+    }
+}